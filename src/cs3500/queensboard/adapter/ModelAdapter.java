@@ -0,0 +1,296 @@
+package cs3500.queensboard.adapter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.BoardSnapshot;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+import cs3500.queensboard.provider.model.BoardPiece;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.provider.model.GameState;
+import cs3500.queensboard.provider.model.Player;
+import cs3500.queensboard.provider.model.PlayerState;
+import cs3500.queensboard.provider.model.ReadOnlyQueensBloodModel;
+
+/**
+ * Represents an adapter that allows a ReadOnlyQueensBoard model
+ * to be used as a ReadOnlyQueensBloodModel. This is useful for
+ * interfacing between different versions or interpretations of the model
+ * within the QueensBoard game system.
+ * The provider's view and strategies query every cell and hand many times per repaint or
+ * move, so adapted cards are cached: each model card is adapted once and the same
+ * CardtoCardGame is returned for it every time. Each cell remembers the model card its piece
+ * was adapted from and is only looked up again once the model holds a different card there,
+ * and hands and player states are only rebuilt once the model's hand or deck changes. Asking
+ * for a board or hand that has not changed allocates nothing. Owners and pawns are read from
+ * the model's latest snapshot rather than through getCell, which creates a Cell per call.
+ */
+public class ModelAdapter implements ReadOnlyQueensBloodModel {
+  private static final Optional<Player> RED_OWNER = Optional.of(Player.RED);
+  private static final Optional<Player> BLUE_OWNER = Optional.of(Player.BLUE);
+
+  private final ReadOnlyQueensBoard model;
+  private final Map<Card, CardtoCardGame> adapted = new IdentityHashMap<>();
+  private Card[] cellCards; // model card in each cell when its piece was cached
+  private BoardPiece[] cellPieces; // adapted piece of each cell, row-major
+  private final AdaptedCards redHand = new AdaptedCards();
+  private final AdaptedCards blueHand = new AdaptedCards();
+  private final AdaptedCards redDeck = new AdaptedCards();
+  private final AdaptedCards blueDeck = new AdaptedCards();
+  private PlayerState redState;
+  private PlayerState blueState;
+
+  /**
+   * Constructs a ModelAdapter with the given read-only model.
+   *
+   * @param model the ReadOnlyQueensBoard instance to adapt
+   */
+  public ModelAdapter(ReadOnlyQueensBoard model) {
+    this.model = model;
+  }
+
+  @Override
+  public int getWidth() {
+    return model.getWidth();
+  }
+
+  @Override
+  public int getHeight() {
+    return model.getHeight();
+  }
+
+  @Override
+  public BoardPiece getItemAt(int row, int col) {
+    //try to get the Card
+    Card modelCard = model.getCardAt(row, col);
+    if (modelCard == null) {
+      return null; // Or return new EmptyPiece() if you want a non-null fallback
+    }
+
+    if (cellPieces == null) {
+      cellCards = new Card[getHeight() * getWidth()];
+      cellPieces = new BoardPiece[cellCards.length];
+    }
+    int idx = row * getWidth() + col;
+    if (cellCards[idx] != modelCard) { // the cell changed since its piece was cached
+      cellCards[idx] = modelCard;
+      cellPieces[idx] = adapt(modelCard);
+    }
+    return cellPieces[idx];
+  }
+
+  // The adapted card of a model card, created the first time the card is seen
+  private CardtoCardGame adapt(Card card) {
+    CardtoCardGame adaptedCard = adapted.get(card);
+    if (adaptedCard == null) {
+      adaptedCard = new CardtoCardGame(
+              card.getName(),
+              card.getCost(),
+              card.getValue(),
+              card.getInfluence(),
+              card.getInfluenceGrid());
+      adapted.put(card, adaptedCard);
+    }
+    return adaptedCard;
+  }
+
+  @Override
+  public int getRemainingRedDeckSize() {
+    return model.getRemainingDeckSize(Board.Player.RED);
+  }
+
+  @Override
+  public int getRemainingBlueDeckSize() {
+    return model.getRemainingDeckSize(Board.Player.BLUE);
+  }
+
+  @Override
+  public GameState isGameOver() {
+    if (model.getWinner().equals(Board.Player.RED)) {
+      return GameState.RED_WINS;
+    }
+    else if (model.getWinner().equals(Board.Player.BLUE)) {
+      return GameState.BLUE_WINS;
+    }
+    else if (model.getWinner().equals(Board.Player.NONE)) {
+      return GameState.GAME_ONGOING;
+    }
+    else {
+      return GameState.TIE;
+    }
+  }
+
+  @Override
+  public int redTotalScore() {
+    int redTotal = 0;
+    for (int r = 0; r < getHeight(); r++) {
+      if (model.getRedRowScore(r) > model.getBlueRowScore(r)) {
+        redTotal += model.getRedRowScore(r);
+      }
+    }
+    return redTotal;
+  }
+
+  @Override
+  public int blueTotalScore() {
+    int blueTotal = 0;
+    for (int r = 0; r < getHeight(); r++) {
+      if (model.getBlueRowScore(r) > model.getRedRowScore(r)) {
+        blueTotal += model.getRedRowScore(r);
+      }
+    }
+    return blueTotal;
+  }
+
+  /**
+   * A list of adapted cards kept in step with a list of model cards. The adapted list is only
+   * rebuilt when the model list holds different cards, and is handed out as an unmodifiable
+   * view so callers cannot change the cache.
+   */
+  private final class AdaptedCards {
+    private final List<Card> source = new ArrayList<>();
+    private final List<cs3500.queensboard.provider.model.Card> cards = new ArrayList<>();
+    private final List<cs3500.queensboard.provider.model.Card> view =
+            Collections.unmodifiableList(cards);
+    private int version; // bumped every time the list is rebuilt
+
+    private List<cs3500.queensboard.provider.model.Card> of(List<Card> modelCards) {
+      if (!sameCards(modelCards)) {
+        source.clear();
+        cards.clear();
+        for (Card card : modelCards) {
+          source.add(card);
+          cards.add(adapt(card));
+        }
+        version++;
+      }
+      return view;
+    }
+
+    private boolean sameCards(List<Card> modelCards) {
+      if (modelCards.size() != source.size()) {
+        return false;
+      }
+      for (int i = 0; i < source.size(); i++) {
+        if (modelCards.get(i) != source.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  @Override
+  public PlayerState getRedPlayerState() {
+    int deckVersion = redDeck.version;
+    List<cs3500.queensboard.provider.model.Card> deck =
+            redDeck.of(model.getDeckConfig().getRedDeck());
+    int handSize = getPlayerHand(Player.RED).size();
+    if (redState == null || deckVersion != redDeck.version
+            || redState.getHand().size() != handSize) {
+      redState = new PlayerState(Player.RED, deck, handSize);
+    }
+    return redState;
+  }
+
+  @Override
+  public PlayerState getBluePlayerState() {
+    int deckVersion = blueDeck.version;
+    List<cs3500.queensboard.provider.model.Card> deck =
+            blueDeck.of(model.getDeckConfig().getBlueDeck());
+    int handSize = getPlayerHand(Player.BLUE).size();
+    if (blueState == null || deckVersion != blueDeck.version
+            || blueState.getHand().size() != handSize) {
+      blueState = new PlayerState(Player.BLUE, deck, handSize);
+    }
+    return blueState;
+  }
+
+  @Override
+  public Player turn() {
+    Board.Player player = model.getTurn();
+    if (player.equals(Board.Player.RED)) {
+      return Player.RED;
+    }
+    else {
+      return Player.BLUE;
+    }
+  }
+
+  @Override
+  public List<cs3500.queensboard.provider.model.Card> getPlayerHand(Player player) {
+    if (player.equals(Player.RED)) {
+      return redHand.of(model.getRedHand());
+    } else {
+      return blueHand.of(model.getBlueHand());
+    }
+  }
+
+
+  @Override
+  public List<cs3500.queensboard.provider.model.Card> getCurrentPlayerHand() {
+    return getPlayerHand(turn());
+  }
+
+
+  @Override
+  public Optional<Player> getOwnerAt(int row, int col) {
+    Board.Player owner = model.getSnapshot().getOwnerAt(row, col); // no Cell is created
+    if (owner.equals(Board.Player.RED)) {
+      return RED_OWNER;
+    }
+    else {
+      return BLUE_OWNER;
+    }
+  }
+
+  @Override
+  public boolean canPlayCardAt(Player player, int cardIdx, int row, int col) {
+    // Check to make sure game was started
+    if (!model.isGameOver()) {
+      throw new IllegalStateException("Game not started.");
+    }
+
+    // Check to make sure cell is a valid location
+    if (!model.isValidCell(row, col)) {
+      throw new IllegalArgumentException("Invalid board position.");
+    }
+
+    // Get the current player's hand
+    List<cs3500.queensboard.model.Card> hand = model.getHand();
+    Card card = hand.get(cardIdx);
+
+    // Check to make sure player can access that card index in their hand
+    if (cardIdx < 0 || cardIdx >= hand.size()) {
+      throw new IllegalArgumentException("Invalid card index.");
+    }
+
+    // Cannot place a card in a cell that already has a card
+    BoardSnapshot snapshot = model.getSnapshot(); // read without creating a Cell
+    if (snapshot.getCardAt(row, col) != null) {
+      return false;
+    } // Cannot place a card that has less pawns than the cost of the card
+    else if (snapshot.getPawnsAt(row, col) < card.getCost()) {
+      return false;
+    } // Cannot place a card that does not have pawns owned by the player
+    else if (snapshot.getOwnerAt(row, col) != card.getInfluence()) {
+      return false;
+    }
+    return true; // else return true
+  }
+
+  @Override
+  public int getRowScore(Player player, int row) {
+    if (player.equals(Player.RED)) {
+      return model.getRedRowScore(row);
+    }
+    else {
+      return model.getBlueRowScore(row);
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+package cs3500.queensboard.controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.CardCatalog;
+import cs3500.queensboard.model.QueensCard;
+
+/**
+ * A deck compiled into a binary "card pack", which loads with a single memory map instead of
+ * parsing text. compile turns a deck configuration file into a pack, and open maps a pack and
+ * builds its cards only when they are asked for.
+ * A pack is big-endian and laid out as:
+ * - header: magic "QBPK", version, card count, and the offsets of the records, the name
+ * index and the string table.
+ * - records, RECORD_SIZE bytes per card in file order: name offset (int) and length (short)
+ * in the string table, cost (byte), a padding byte, value (int), and the 25-bit masks (int)
+ * of the influenced cells as written and mirrored for blue, bit i * 5 + j for position i, j.
+ * - name index: (name hash, record) pairs sorted by hash, for find.
+ * - string table: every card name in UTF-8, one after the other.
+ * Only grids made of 'X', 'I' and a 'C' in the center can be packed, as the grid is rebuilt
+ * from its mask.
+ */
+public final class CardPack {
+  private static final int MAGIC = 0x5142504B; // "QBPK"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+  private static final int RECORD_SIZE = 20;
+  private static final int INDEX_ENTRY_SIZE = 8;
+  private static final int GRID_SIZE = 5;
+  private static final int CENTER = GRID_SIZE / 2;
+
+  private final ByteBuffer bytes;
+  private final String source;
+  private final int count;
+  private final int recordsOffset;
+  private final int indexOffset;
+  private final int stringsOffset;
+  private final QueensCard[][] cards; // cards built so far, by orientation and record
+
+  private CardPack(ByteBuffer bytes, String source) throws IOException {
+    this.bytes = bytes;
+    this.source = source;
+    if (bytes.limit() < HEADER_SIZE || bytes.getInt(0) != MAGIC) {
+      throw new IOException(source + " is not a card pack");
+    }
+    if (bytes.getInt(4) != VERSION) {
+      throw new IOException(source + " is a card pack of unknown version " + bytes.getInt(4));
+    }
+    this.count = bytes.getInt(8);
+    this.recordsOffset = bytes.getInt(12);
+    this.indexOffset = bytes.getInt(16);
+    this.stringsOffset = bytes.getInt(20);
+    if (count < 0 || recordsOffset != HEADER_SIZE
+            || indexOffset != recordsOffset + count * RECORD_SIZE
+            || stringsOffset != indexOffset + count * INDEX_ENTRY_SIZE
+            || stringsOffset > bytes.limit()) {
+      throw new IOException(source + " is a damaged card pack");
+    }
+    this.cards = new QueensCard[4][count];
+  }
+
+  /**
+   * Returns whether the file starts like a card pack.
+   *
+   * @param path file to check
+   * @return true if the file is a card pack rather than a text deck
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isPack(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(4);
+      while (magic.hasRemaining() && channel.read(magic) >= 0) {
+        // read until four bytes or the end of the file
+      }
+      return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+    }
+  }
+
+  /**
+   * Memory-maps a card pack. Cards are built when first asked for.
+   *
+   * @param path the pack to open
+   * @return the opened pack
+   * @throws IOException if the file cannot be read or is not a card pack
+   */
+  public static CardPack open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      return new CardPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+              path.toString());
+    }
+  }
+
+  /**
+   * Compiles a deck configuration file into a card pack.
+   *
+   * @param config deck configuration file to read
+   * @param pack   file to write the pack to, replaced if it exists
+   * @return the number of cards packed
+   * @throws IOException         if either file cannot be read or written
+   * @throws DeckFormatException if the configuration is malformed or has a grid that cannot
+   *                             be packed
+   */
+  public static int compile(Path config, Path pack) throws IOException {
+    List<byte[]> names = new ArrayList<>();
+    List<int[]> records = new ArrayList<>(); // cost, value, mask, mirrored mask
+    String source = config.toString();
+    DeckParser.parse(config, (name, cost, value, grid, line) -> {
+      if (cost < 1 || cost > 3) {
+        throw new DeckFormatException(source, line, "card cost must be between 1 and 3");
+      }
+      if (name.length() > Short.MAX_VALUE) {
+        throw new DeckFormatException(source, line, "card name is too long to be packed");
+      }
+      names.add(name.getBytes(StandardCharsets.UTF_8));
+      records.add(new int[] {cost, value, maskOf(grid, source, line), mirroredMaskOf(grid)});
+    });
+
+    int count = records.size();
+    int indexOffset = HEADER_SIZE + count * RECORD_SIZE;
+    int stringsOffset = indexOffset + count * INDEX_ENTRY_SIZE;
+    int stringsSize = 0;
+    for (byte[] name : names) {
+      stringsSize += name.length;
+    }
+    ByteBuffer out = ByteBuffer.allocate(stringsOffset + stringsSize);
+    out.putInt(MAGIC).putInt(VERSION).putInt(count)
+            .putInt(HEADER_SIZE).putInt(indexOffset).putInt(stringsOffset);
+
+    int nameOffset = 0;
+    long[] index = new long[count]; // name hash in the high half, record in the low half
+    for (int i = 0; i < count; i++) {
+      byte[] name = names.get(i);
+      int[] record = records.get(i);
+      out.putInt(nameOffset).putShort((short) name.length)
+              .put((byte) record[0]).put((byte) 0)
+              .putInt(record[1]).putInt(record[2]).putInt(record[3]);
+      nameOffset += name.length;
+      index[i] = (long) new String(name, StandardCharsets.UTF_8).hashCode() << 32 | i;
+    }
+    Arrays.sort(index);
+    for (long entry : index) {
+      out.putInt((int) (entry >> 32)).putInt((int) entry);
+    }
+    for (byte[] name : names) {
+      out.put(name);
+    }
+    out.flip();
+    try (FileChannel channel = FileChannel.open(pack, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+    }
+    return count;
+  }
+
+  // Influenced cells of a grid that can be packed
+  private static int maskOf(char[][] grid, String source, int line) {
+    int mask = 0;
+    for (int i = 0; i < GRID_SIZE; i++) {
+      for (int j = 0; j < GRID_SIZE; j++) {
+        char c = grid[i][j];
+        boolean center = i == CENTER && j == CENTER;
+        if (c == 'I' && !center) {
+          mask |= 1 << (i * GRID_SIZE + j);
+        } else if (c != (center ? 'C' : 'X')) {
+          throw new DeckFormatException(source, line,
+                  "only grids of X and I around a C in the center can be packed");
+        }
+      }
+    }
+    return mask;
+  }
+
+  private static int mirroredMaskOf(char[][] grid) {
+    int mask = 0;
+    for (int i = 0; i < GRID_SIZE; i++) {
+      for (int j = 0; j < GRID_SIZE; j++) {
+        if (grid[i][j] == 'I') {
+          mask |= 1 << (i * GRID_SIZE + (GRID_SIZE - 1 - j));
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the number of cards in the pack.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Returns a card of the pack, building it the first time it is asked for.
+   *
+   * @param idx     position of the card in the pack
+   * @param owner   player the card belongs to
+   * @param reflect whether to mirror the influence grid, as is done for blue decks
+   * @return the catalog instance of the card
+   * @throws IndexOutOfBoundsException if there is no card at that position
+   */
+  public QueensCard getCard(int idx, Board.Player owner, boolean reflect) {
+    if (idx < 0 || idx >= count) {
+      throw new IndexOutOfBoundsException("No card " + idx + " in " + source);
+    }
+    int orientation = (owner == Board.Player.BLUE ? 2 : 0) + (reflect ? 1 : 0);
+    QueensCard card = cards[orientation][idx];
+    if (card == null) {
+      int record = recordsOffset + idx * RECORD_SIZE;
+      int mask = bytes.getInt(record + (reflect ? 16 : 12));
+      card = CardCatalog.intern(getName(idx), bytes.get(record + 6), bytes.getInt(record + 8),
+              owner, gridOf(mask));
+      cards[orientation][idx] = card;
+    }
+    return card;
+  }
+
+  /**
+   * Returns the name of a card of the pack.
+   *
+   * @param idx position of the card in the pack
+   * @return the card's name
+   */
+  public String getName(int idx) {
+    int record = recordsOffset + idx * RECORD_SIZE;
+    byte[] name = new byte[bytes.getShort(record + 4) & 0xFFFF];
+    bytes.get(stringsOffset + bytes.getInt(record), name);
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the position of the first card with the given name, using the name index.
+   *
+   * @param name of the card
+   * @return its position in the pack, or -1 if no card has that name
+   */
+  public int find(String name) {
+    int hash = name.hashCode();
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) { // find the first entry with the hash
+      int mid = (low + high) >>> 1;
+      if (bytes.getInt(indexOffset + mid * INDEX_ENTRY_SIZE) < hash) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    for (int i = low; i < count; i++) {
+      int entry = indexOffset + i * INDEX_ENTRY_SIZE;
+      if (bytes.getInt(entry) != hash) {
+        break;
+      }
+      int record = bytes.getInt(entry + 4);
+      if (getName(record).equals(name)) {
+        return record;
+      }
+    }
+    return -1;
+  }
+
+  // Rebuilds the influence grid of a mask
+  private static char[][] gridOf(int mask) {
+    char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+    for (int i = 0; i < GRID_SIZE; i++) {
+      for (int j = 0; j < GRID_SIZE; j++) {
+        grid[i][j] = (mask & 1 << (i * GRID_SIZE + j)) != 0 ? 'I' : 'X';
+      }
+    }
+    grid[CENTER][CENTER] = 'C';
+    return grid;
+  }
+
+  /**
+   * Compiles a deck configuration file into a card pack.
+   *
+   * @param args the configuration file and the pack to write
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.err.println("Usage: CardPack <deck.config> <deck.pack>");
+      return;
+    }
+    try {
+      int count = compile(Path.of(args[0]), Path.of(args[1]));
+      System.out.println("Packed " + count + " cards into " + args[1]);
+    } catch (IOException | DeckFormatException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package cs3500.queensboard.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.CardCatalog;
+import cs3500.queensboard.model.QueensCard;
+
+/**
+ * The process-wide cache of parsed deck files.
+ * A deck is cached under the file's real path and the orientation it was read in, together
+ * with the file's modification time and size when it was read. Loading it again only reads
+ * the file's attributes: if they still match, the cached cards are returned without reading
+ * the file, and if the file was edited it is read again and the cache updated.
+ * Cached decks are immutable lists of catalog cards, so every board shares them safely.
+ */
+public final class DeckCache {
+  private static final Map<Key, Entry> CACHE = new ConcurrentHashMap<>();
+
+  private DeckCache() {
+  }
+
+  /**
+   * Returns every card of a deck file, text or card pack, in file order and before any
+   * duplicate capping.
+   *
+   * @param path    deck file to load
+   * @param player  player the cards belong to
+   * @param reflect whether to mirror the influence grids, as is done for blue decks
+   * @return the cards of the file, as an immutable list
+   * @throws IOException         if the file cannot be read
+   * @throws DeckFormatException if the file is not a valid deck file
+   */
+  public static List<QueensCard> load(Path path, Board.Player player, boolean reflect)
+          throws IOException {
+    Path real = path.toRealPath();
+    BasicFileAttributes attributes = Files.readAttributes(real, BasicFileAttributes.class);
+    long modified = attributes.lastModifiedTime().toMillis();
+    long size = attributes.size();
+
+    Key key = new Key(real, player, reflect);
+    Entry entry = CACHE.get(key);
+    if (entry != null && entry.modified == modified && entry.size == size) {
+      return entry.cards;
+    }
+    List<QueensCard> cards = List.copyOf(read(real, player, reflect));
+    CACHE.put(key, new Entry(modified, size, cards));
+    return cards;
+  }
+
+  /**
+   * Forgets every cached deck.
+   */
+  public static void clear() {
+    CACHE.clear();
+  }
+
+  // Parses a text deck, or maps a card pack
+  private static List<QueensCard> read(Path path, Board.Player player, boolean reflect)
+          throws IOException {
+    List<QueensCard> cards = new ArrayList<>();
+    if (CardPack.isPack(path)) {
+      CardPack pack = CardPack.open(path);
+      for (int i = 0; i < pack.size(); i++) {
+        cards.add(pack.getCard(i, player, reflect));
+      }
+    } else {
+      DeckParser.parse(path, (name, cost, value, grid, line) -> {
+        char[][] influenceGrid = reflect ? QueensCard.reflectInfluence(grid) : grid;
+        // The catalog copies the grid, so the parser can reuse it
+        cards.add(CardCatalog.intern(name, cost, value, player, influenceGrid));
+      });
+    }
+    return cards;
+  }
+
+  // What a deck is cached under
+  private static final class Key {
+    private final Path path;
+    private final Board.Player player;
+    private final boolean reflect;
+
+    Key(Path path, Board.Player player, boolean reflect) {
+      this.path = path;
+      this.player = player;
+      this.reflect = reflect;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) obj;
+      return path.equals(that.path) && player == that.player && reflect == that.reflect;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, player, reflect);
+    }
+  }
+
+  // A cached deck and the file attributes it was read with
+  private static final class Entry {
+    private final long modified;
+    private final long size;
+    private final List<QueensCard> cards;
+
+    Entry(long modified, long size, List<QueensCard> cards) {
+      this.modified = modified;
+      this.size = size;
+      this.cards = cards;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package cs3500.queensboard.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import cs3500.queensboard.metrics.GameMetrics;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.QueensCard;
+
+/**
+ * Represents the configuration for loading card decks from a configuration file.
+ */
+public class DeckConfig implements DeckInterface {
+  //main has fixed path, two inputs for diff color files
+
+
+  //String path = "/Users/amyhoyt/Desktop/OOD/Homework 5/docs/RedDeck.config";
+  private String redPath = "docs" + File.separator + "RedDeck.config";
+  private String bluePath = "docs" + File.separator + "BlueDeck.config";
+
+  private File redConfig = new File(redPath);
+  private File blueConfig = new File(bluePath);
+  private List<Card> redDeck = new ArrayList<>();
+  private List<Card> blueDeck = new ArrayList<>();
+
+  /**
+   * Calls the loadDecks function to load decks for each player from given files.
+   * Either file may be a text deck or a card pack.
+   */
+  @Override
+  public void loadDeck(String redDeckPath, String blueDeckPath) {
+    File redConfig = new File(redDeckPath);
+    File blueConfig = new File(blueDeckPath);
+    loadDecks(redConfig, redDeck, Board.Player.RED, false);
+    loadDecks(blueConfig, blueDeck, Board.Player.BLUE, true);
+  }
+
+  //TODO should take in two paths? should still flip for second path aka blue?
+  /**
+   * Loads the deck configuration for each file, populating the Red and Blue decks.
+   * If blue file/blue deck, make sure to reflect the Influence grid
+   * Cards come from the CardCatalog, so every deck loaded shares the same card instances.
+   * The file may be a text deck, read by DeckParser so a malformed file is reported with its
+   * line number, or a CardPack compiled from one, which is memory-mapped instead of parsed.
+   * Files are read through the DeckCache, so a file is only read again once it changes.
+   * @param file File of cards being read
+   * @param deck Deck that stores the red and blue cards read in
+   * @param player Red or Blue player the file is read for
+   * @param reflect If blue deck, then reflect the influence grid
+   * @throws DeckFormatException if the file is not a valid deck file
+   */
+  @Override
+  public void loadDecks(File file, List<Card> deck, Board.Player player, boolean reflect) {
+    long start = System.nanoTime();
+    DeckLoadEvent event = new DeckLoadEvent();
+    event.begin();
+    // Copies of each card name already in the deck
+    Map<String, Integer> counts = new HashMap<>();
+    for (Card c : deck) {
+      counts.merge(c.getName(), 1, Integer::sum);
+    }
+    int added = 0;
+    int parsed = 0;
+    try {
+      List<QueensCard> cards = DeckCache.load(file.toPath(), player, reflect);
+      parsed = cards.size();
+      for (QueensCard card : cards) {
+        if (counts.getOrDefault(card.getName(), 0) < 2) {
+          deck.add(card);
+          counts.merge(card.getName(), 1, Integer::sum);
+          added++;
+        }
+      }
+    } catch (NoSuchFileException e) {
+      System.err.println("Error: File not found at " + file.getPath());
+    } catch (IOException e) {
+      System.err.println("Error: Could not read " + file.getPath() + ": " + e.getMessage());
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.path = file.getPath();
+      event.player = String.valueOf(player);
+      event.bytes = file.length();
+      event.cardsParsed = parsed;
+      event.cardsAdded = added;
+      event.commit();
+    }
+    GameMetrics.get().recordDeckLoad(System.nanoTime() - start);
+  }
+
+  /**
+   * Returns the list of cards in the Red Deck.
+   */
+  @Override
+  public List<Card> getRedDeck() {
+    return redDeck;
+  }
+
+  /**
+   * Returns the list of cards in the Blue Deck.
+   */
+  public List<Card> getBlueDeck() {
+    return blueDeck;
+  }
+
+  /**
+   * Returns number of occurrences of the card in a deck.
+   */
+  @Override
+  public int countOccurrences(List<Card> deck, QueensCard card) {
+    int count = 0;
+    for (Card c : deck) {
+      if (c.getName().equals(card.getName())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the maximum size of a hand (1/3 of the deck).
+   */
+  @Override
+  public int getMaxHandSize() {
+    return redDeck.size() / 3;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    DeckConfig that = (DeckConfig) obj;
+    return Objects.equals(redDeck, that.redDeck) &&
+            Objects.equals(blueDeck, that.blueDeck);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(redDeck, blueDeck);
+  }
+
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package cs3500.queensboard.controller;
+
+/**
+ * Thrown when a deck configuration file is malformed. The message names the file and line.
+ */
+public class DeckFormatException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final String source;
+  private final int line;
+
+  /**
+   * Creates an exception for a problem at a line of a deck file.
+   *
+   * @param source  name of the deck file
+   * @param line    line of the problem, starting at 1
+   * @param message what is wrong
+   */
+  public DeckFormatException(String source, int line, String message) {
+    super(source + ":" + line + ": " + message);
+    this.source = source;
+    this.line = line;
+  }
+
+  /**
+   * Returns the name of the deck file.
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Returns the line of the problem, starting at 1.
+   */
+  public int getLine() {
+    return line;
+  }
+}
@@ -0,0 +1,37 @@
+package cs3500.queensboard.controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a deck file being read. The event lasts as long as the file takes
+ * to parse.
+ */
+@Name("cs3500.queensboard.DeckLoad")
+@Label("Deck Load")
+@Category({"QueensBoard", "Controller"})
+@Description("A deck configuration file being read")
+@StackTrace(false)
+final class DeckLoadEvent extends Event {
+  @Label("Path")
+  String path;
+
+  @Label("Player")
+  String player;
+
+  @Label("Bytes")
+  @DataAmount
+  long bytes;
+
+  @Label("Cards Parsed")
+  int cardsParsed;
+
+  @Label("Cards Added")
+  @Description("Cards added to the deck, at most two copies of each name")
+  int cardsAdded;
+}
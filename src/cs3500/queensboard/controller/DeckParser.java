@@ -0,0 +1,213 @@
+package cs3500.queensboard.controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads deck configuration files straight from their bytes.
+ * A deck file is a list of cards, each a header line "name cost value" followed by five lines
+ * of five influence characters. Blank lines between cards are skipped, and lines may end in
+ * "\n" or "\r\n".
+ * The file is memory-mapped and tokenized byte by byte: no Scanner, no String per line and no
+ * char[] per grid row. The only object made per card is its name; the influence grid handed
+ * to the handler is reused for every card, so a handler that keeps it must copy it.
+ * Malformed input is reported as a DeckFormatException naming the file and line.
+ */
+public final class DeckParser {
+  private static final int GRID_SIZE = 5;
+
+  /**
+   * Receives each card as it is parsed.
+   */
+  public interface CardHandler {
+
+    /**
+     * Called once for each card, in file order.
+     *
+     * @param name          of the card
+     * @param cost          of the card
+     * @param value         of the card
+     * @param influenceGrid the card's 5x5 influence grid, reused for the next card
+     * @param line          line of the card's header, starting at 1
+     */
+    void card(String name, int cost, int value, char[][] influenceGrid, int line);
+  }
+
+  private final ByteBuffer bytes;
+  private final String source;
+  private final char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+  private byte[] nameBytes = new byte[32];
+  private int line = 1;
+
+  private DeckParser(ByteBuffer bytes, String source) {
+    this.bytes = bytes;
+    this.source = source;
+  }
+
+  /**
+   * Parses the deck file at the given path.
+   *
+   * @param path    file to read
+   * @param handler receives every card
+   * @return the number of cards parsed
+   * @throws IOException         if the file cannot be read
+   * @throws DeckFormatException if the file is not a valid deck file
+   */
+  public static int parse(Path path, CardHandler handler) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new DeckFormatException(path.toString(), 1, "file is too large");
+      }
+      ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return parse(bytes, path.toString(), handler);
+    }
+  }
+
+  /**
+   * Parses deck file contents from the buffer's position to its limit.
+   *
+   * @param bytes   contents of a deck file
+   * @param source  name of where the bytes came from, used in error messages
+   * @param handler receives every card
+   * @return the number of cards parsed
+   * @throws DeckFormatException if the contents are not a valid deck file
+   */
+  public static int parse(ByteBuffer bytes, String source, CardHandler handler) {
+    return new DeckParser(bytes, source).run(handler);
+  }
+
+  private int run(CardHandler handler) {
+    int cards = 0;
+    while (skipBlankLines()) {
+      int header = line;
+      String name = readName();
+      int cost = readInt("cost");
+      int value = readInt("value");
+      endLine();
+      for (int row = 0; row < GRID_SIZE; row++) {
+        readGridRow(row);
+      }
+      handler.card(name, cost, value, grid, header);
+      cards++;
+    }
+    return cards;
+  }
+
+  // Moves past blank lines, returning whether anything is left
+  private boolean skipBlankLines() {
+    while (bytes.hasRemaining()) {
+      int start = bytes.position();
+      skipSpaces();
+      if (!bytes.hasRemaining()) {
+        return false;
+      }
+      if (!atLineEnd()) {
+        bytes.position(start);
+        return true;
+      }
+      endLine();
+    }
+    return false;
+  }
+
+  private String readName() {
+    skipSpaces();
+    int length = 0;
+    while (bytes.hasRemaining() && !isSpace(peek()) && !atLineEnd()) {
+      if (length == nameBytes.length) {
+        nameBytes = Arrays.copyOf(nameBytes, length * 2);
+      }
+      nameBytes[length++] = bytes.get();
+    }
+    if (length == 0) {
+      throw error("expected a card name");
+    }
+    return new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  private int readInt(String what) {
+    skipSpaces();
+    boolean negative = false;
+    if (bytes.hasRemaining() && peek() == '-') {
+      negative = true;
+      bytes.get();
+    }
+    long result = 0;
+    int digits = 0;
+    while (bytes.hasRemaining() && peek() >= '0' && peek() <= '9') {
+      result = result * 10 + (bytes.get() - '0');
+      digits++;
+      if (result > Integer.MAX_VALUE) {
+        throw error("card " + what + " is too large");
+      }
+    }
+    if (digits == 0 || (bytes.hasRemaining() && !isSpace(peek()) && !atLineEnd())) {
+      throw error("expected a whole number for the card " + what);
+    }
+    return (int) (negative ? -result : result);
+  }
+
+  private void readGridRow(int row) {
+    if (!bytes.hasRemaining()) {
+      throw error("expected " + GRID_SIZE + " rows of influence, found " + row);
+    }
+    skipSpaces();
+    int count = 0;
+    while (bytes.hasRemaining() && !isSpace(peek()) && !atLineEnd()) {
+      byte b = bytes.get();
+      if (count < GRID_SIZE) {
+        grid[row][count] = (char) (b & 0xFF);
+      }
+      count++;
+    }
+    skipSpaces();
+    if (count != GRID_SIZE || (bytes.hasRemaining() && !atLineEnd())) {
+      throw error("expected " + GRID_SIZE + " influence characters in row " + (row + 1));
+    }
+    endLine();
+  }
+
+  // Consumes the rest of the line, which must be blank
+  private void endLine() {
+    skipSpaces();
+    if (!bytes.hasRemaining()) {
+      return;
+    }
+    byte b = bytes.get();
+    if (b == '\r' && bytes.hasRemaining() && peek() == '\n') {
+      bytes.get();
+    } else if (b != '\n' && b != '\r') {
+      throw error("unexpected text at the end of the line");
+    }
+    line++;
+  }
+
+  private void skipSpaces() {
+    while (bytes.hasRemaining() && isSpace(peek())) {
+      bytes.get();
+    }
+  }
+
+  private boolean atLineEnd() {
+    byte b = peek();
+    return b == '\n' || b == '\r';
+  }
+
+  private byte peek() {
+    return bytes.get(bytes.position());
+  }
+
+  private static boolean isSpace(byte b) {
+    return b == ' ' || b == '\t';
+  }
+
+  private DeckFormatException error(String message) {
+    return new DeckFormatException(source, line, message);
+  }
+}
@@ -0,0 +1,222 @@
+package cs3500.queensboard.controller;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import cs3500.queensboard.metrics.GameMetrics;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.QueensBoard;
+import cs3500.queensboard.player.PlayerActionsInterface;
+import cs3500.queensboard.strategy.Move;
+
+/**
+ * Plays many independent matches in one JVM, without any view.
+ * Each submitted match is a turn loop that asks the player whose turn it is for a move and
+ * applies it to the board, until the game is over or the match runs past the host's timeout.
+ * Turn loops never block (there is no view to wait for), so they run as tasks on a shared
+ * work-stealing pool with one thread per core instead of one thread per match, and thousands
+ * of matches can be in progress at once.
+ * The host keeps every match in progress and counts moves and ended games (finished, timed
+ * out, or failed because a player threw), so throughput can be read at any time.
+ */
+public class GameHost implements AutoCloseable {
+  private final ExecutorService pool;
+  private final long timeoutNanos;
+  private final Map<Long, QueensBoard> active = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final LongAdder moves = new LongAdder();
+  private final LongAdder finished = new LongAdder();
+  private final LongAdder timedOut = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final long startNanos;
+
+  /**
+   * Creates a host that uses one thread per available core.
+   *
+   * @param timeoutMillis how long a match may take before it is stopped
+   * @throws IllegalArgumentException if the timeout is not positive
+   */
+  public GameHost(long timeoutMillis) {
+    this(Runtime.getRuntime().availableProcessors(), timeoutMillis);
+  }
+
+  /**
+   * Creates a host that plays matches on the given number of threads.
+   *
+   * @param threads       number of threads playing matches
+   * @param timeoutMillis how long a match may take before it is stopped
+   * @throws IllegalArgumentException if threads or the timeout is not positive
+   */
+  public GameHost(int threads, long timeoutMillis) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Host needs at least one thread");
+    }
+    if (timeoutMillis <= 0) {
+      throw new IllegalArgumentException("Timeout must be positive");
+    }
+    this.pool = Executors.newWorkStealingPool(threads);
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Starts playing a match on a board whose game has already been started. The board must not
+   * be used by anything else until the match is over.
+   *
+   * @param board the started board to play on
+   * @param red   player making red's moves, must be a computer player
+   * @param blue  player making blue's moves, must be a computer player
+   * @return the result of the match, once it is over, completed exceptionally with the
+   *         exception of a player that failed to make a move
+   * @throws IllegalArgumentException if an argument is null or a player is not a computer
+   * @throws IllegalStateException    if the game on the board is not in progress
+   */
+  public CompletableFuture<GameResult> submit(QueensBoard board, PlayerActionsInterface red,
+                                              PlayerActionsInterface blue) {
+    if (board == null || red == null || blue == null) {
+      throw new IllegalArgumentException("Board and players cannot be null");
+    }
+    if (!red.isComputerTurn() || !blue.isComputerTurn()) {
+      throw new IllegalArgumentException("Headless matches need computer players");
+    }
+    if (board.isGameOver()) {
+      throw new IllegalStateException("Game has not started or is already finished.");
+    }
+    long id = nextId.getAndIncrement();
+    active.put(id, board);
+    return CompletableFuture.supplyAsync(() -> play(id, board, red, blue), pool)
+            .whenComplete((result, error) -> active.remove(id));
+  }
+
+  // Turn loop of one match
+  private GameResult play(long id, QueensBoard board, PlayerActionsInterface red,
+                          PlayerActionsInterface blue) {
+    long start = System.nanoTime();
+    int count = 0;
+    boolean stopped = false;
+    try {
+      while (!board.isGameOver()) {
+        if (System.nanoTime() - start > timeoutNanos
+                || Thread.currentThread().isInterrupted()) {
+          stopped = true;
+          break;
+        }
+        PlayerActionsInterface player = board.getTurn() == Board.Player.RED ? red : blue;
+        applyMove(board, player.makeMove(board));
+        count++;
+        moves.increment();
+      }
+    } catch (RuntimeException e) {
+      failed.increment(); // the match ends here, its future fails with the player's exception
+      throw e;
+    }
+
+    if (stopped) {
+      timedOut.increment();
+    } else {
+      finished.increment();
+    }
+    return new GameResult(id, stopped ? Board.Player.NONE : board.getWinner(),
+            board.getScore(Board.Player.RED), board.getScore(Board.Player.BLUE),
+            count, System.nanoTime() - start, stopped);
+  }
+
+  // Places the card of a move, passing instead if there is no move or it cannot be made
+  private static void applyMove(QueensBoard board, Move move) {
+    if (move == null || move.isPass()) {
+      board.pass();
+      return;
+    }
+    Card card = move.getCard();
+    int cardIdx = board.getHand().indexOf(card);
+    try {
+      if (cardIdx < 0) {
+        throw new IllegalArgumentException("Card is not in hand");
+      }
+      board.placeCardInPosition(cardIdx, move.getRow(), move.getCol());
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      GameMetrics.get().recordRejectedMove();
+      board.pass(); // the same as a player whose move is rejected giving up the turn
+    }
+  }
+
+  /**
+   * Returns the number of matches currently being played.
+   */
+  public int getActiveGames() {
+    return active.size();
+  }
+
+  /**
+   * Returns the number of matches that ended normally.
+   */
+  public long getFinishedGames() {
+    return finished.sum();
+  }
+
+  /**
+   * Returns the number of matches stopped by the timeout.
+   */
+  public long getTimedOutGames() {
+    return timedOut.sum();
+  }
+
+  /**
+   * Returns the number of matches ended by a player throwing an exception.
+   */
+  public long getFailedGames() {
+    return failed.sum();
+  }
+
+  /**
+   * Returns the number of moves made in all matches so far.
+   */
+  public long getMoves() {
+    return moves.sum();
+  }
+
+  /**
+   * Returns the average number of moves made per second since the host was created.
+   */
+  public double getMovesPerSecond() {
+    return perSecond(moves.sum());
+  }
+
+  /**
+   * Returns the average number of matches ended per second since the host was created,
+   * whether they finished, timed out or failed.
+   */
+  public double getGamesPerSecond() {
+    return perSecond(finished.sum() + timedOut.sum() + failed.sum());
+  }
+
+  private double perSecond(long count) {
+    double seconds = (System.nanoTime() - startNanos) / 1e9;
+    return seconds > 0 ? count / seconds : 0;
+  }
+
+  /**
+   * Stops accepting matches and waits up to one timeout (plus a second) for the submitted
+   * ones to end, then interrupts whatever is still running.
+   */
+  @Override
+  public void close() {
+    pool.shutdown();
+    try {
+      if (!pool.awaitTermination(TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + 1000,
+              TimeUnit.MILLISECONDS)) {
+        pool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      pool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package cs3500.queensboard.controller;
+
+import cs3500.queensboard.model.Board;
+
+/**
+ * The outcome of a match played by a GameHost.
+ */
+public final class GameResult {
+  private final long gameId;
+  private final Board.Player winner;
+  private final int redScore;
+  private final int blueScore;
+  private final int moves;
+  private final long elapsedNanos;
+  private final boolean timedOut;
+
+  /**
+   * Creates the result of a match.
+   *
+   * @param gameId       id the host gave the match
+   * @param winner       winner of the match (NONE for a tie or a timed out match)
+   * @param redScore     red's total score when the match ended
+   * @param blueScore    blue's total score when the match ended
+   * @param moves        number of placements and passes made
+   * @param elapsedNanos time the match took to play
+   * @param timedOut     whether the match was stopped by the host's timeout
+   */
+  public GameResult(long gameId, Board.Player winner, int redScore, int blueScore,
+                    int moves, long elapsedNanos, boolean timedOut) {
+    this.gameId = gameId;
+    this.winner = winner;
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.moves = moves;
+    this.elapsedNanos = elapsedNanos;
+    this.timedOut = timedOut;
+  }
+
+  /**
+   * Returns the id the host gave the match.
+   */
+  public long getGameId() {
+    return gameId;
+  }
+
+  /**
+   * Returns the winner of the match, NONE for a tie or a timed out match.
+   */
+  public Board.Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * Returns the total score of the given player when the match ended.
+   *
+   * @param player RED or BLUE
+   * @return the player's score, 0 for NONE
+   */
+  public int getScore(Board.Player player) {
+    if (player == Board.Player.RED) {
+      return redScore;
+    } else if (player == Board.Player.BLUE) {
+      return blueScore;
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the number of placements and passes made in the match.
+   */
+  public int getMoves() {
+    return moves;
+  }
+
+  /**
+   * Returns how long the match took to play, in nanoseconds.
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns whether the match was stopped because it ran past the host's timeout.
+   */
+  public boolean isTimedOut() {
+    return timedOut;
+  }
+
+  @Override
+  public String toString() {
+    return "Game " + gameId + ": " + (timedOut ? "timed out" : winner + " wins")
+            + " " + redScore + "-" + blueScore + " in " + moves + " moves";
+  }
+}
@@ -0,0 +1,8 @@
+package cs3500.queensboard.controller;
+
+/**
+ * Model Status Interface is added to the model to listen to the view.
+ */
+public interface ModelStatus {
+  void update();
+}
@@ -0,0 +1,228 @@
+package cs3500.queensboard.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import cs3500.queensboard.model.Board;
+
+/**
+ * The process-wide registry of game metrics: placements and passes per player, influence
+ * flips and rejected moves, and latency histograms for placing cards, notifying listeners,
+ * loading decks and each strategy's decisions.
+ * Recording never locks: counters are LongAdders and histograms are LatencyHistograms.
+ * The counters and every histogram are registered with the platform MBean server under the
+ * "cs3500.queensboard" domain, so a JMX console such as JConsole can watch live games.
+ */
+public final class GameMetrics implements GameMetricsMBean {
+  private static final String DOMAIN = "cs3500.queensboard";
+  private static final GameMetrics INSTANCE = new GameMetrics();
+
+  private final LongAdder gamesStarted = new LongAdder();
+  private final LongAdder redPlacements = new LongAdder();
+  private final LongAdder bluePlacements = new LongAdder();
+  private final LongAdder redPasses = new LongAdder();
+  private final LongAdder bluePasses = new LongAdder();
+  private final LongAdder influenceFlips = new LongAdder();
+  private final LongAdder rejectedMoves = new LongAdder();
+  private final LatencyHistogram placementLatency = new LatencyHistogram();
+  private final LatencyHistogram listenerLatency = new LatencyHistogram();
+  private final LatencyHistogram deckLoadLatency = new LatencyHistogram();
+  private final Map<String, LatencyHistogram> decisionLatency = new ConcurrentHashMap<>();
+
+  private GameMetrics() {
+    register("type=GameMetrics", this);
+    register("type=Latency,name=placement", placementLatency);
+    register("type=Latency,name=listenerDispatch", listenerLatency);
+    register("type=Latency,name=deckLoad", deckLoadLatency);
+  }
+
+  /**
+   * Returns the metrics of this process.
+   */
+  public static GameMetrics get() {
+    return INSTANCE;
+  }
+
+  // Metrics are still recorded if JMX is unavailable, they just cannot be watched
+  private static void register(String properties, Object bean) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+      if (!server.isRegistered(name)) {
+        server.registerMBean(bean, name);
+      }
+    } catch (JMException | SecurityException e) {
+      System.err.println("Could not register metrics bean " + properties + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Records a game being started.
+   */
+  public void recordGameStarted() {
+    gamesStarted.increment();
+  }
+
+  /**
+   * Records a card placed on a board.
+   *
+   * @param player who placed the card
+   * @param flips  cells whose owner the card's influence flipped
+   * @param nanos  time the placement took
+   */
+  public void recordPlacement(Board.Player player, int flips, long nanos) {
+    if (player == Board.Player.RED) {
+      redPlacements.increment();
+    } else {
+      bluePlacements.increment();
+    }
+    influenceFlips.add(flips);
+    placementLatency.record(nanos);
+  }
+
+  /**
+   * Records a turn passed.
+   *
+   * @param player who passed
+   */
+  public void recordPass(Board.Player player) {
+    if (player == Board.Player.RED) {
+      redPasses.increment();
+    } else {
+      bluePasses.increment();
+    }
+  }
+
+  /**
+   * Records a board notifying its listeners.
+   *
+   * @param nanos time the listeners took
+   */
+  public void recordListenerDispatch(long nanos) {
+    listenerLatency.record(nanos);
+  }
+
+  /**
+   * Records a deck file being loaded.
+   *
+   * @param nanos time the file took to read
+   */
+  public void recordDeckLoad(long nanos) {
+    deckLoadLatency.record(nanos);
+  }
+
+  /**
+   * Records a strategy choosing a move.
+   *
+   * @param strategy name of the strategy implementation
+   * @param nanos    time the strategy took
+   */
+  public void recordDecision(String strategy, long nanos) {
+    getDecisionLatency(strategy).record(nanos);
+  }
+
+  /**
+   * Records a move the board rejected.
+   */
+  public void recordRejectedMove() {
+    rejectedMoves.increment();
+  }
+
+  /**
+   * Returns the histogram of card placement latencies.
+   */
+  public LatencyHistogram getPlacementLatency() {
+    return placementLatency;
+  }
+
+  /**
+   * Returns the histogram of listener notification latencies.
+   */
+  public LatencyHistogram getListenerDispatchLatency() {
+    return listenerLatency;
+  }
+
+  /**
+   * Returns the histogram of deck load latencies.
+   */
+  public LatencyHistogram getDeckLoadLatency() {
+    return deckLoadLatency;
+  }
+
+  /**
+   * Returns the histogram of decision latencies of a strategy, creating and registering it
+   * the first time the strategy is seen.
+   *
+   * @param strategy name of the strategy implementation
+   * @return the strategy's histogram
+   */
+  public LatencyHistogram getDecisionLatency(String strategy) {
+    LatencyHistogram histogram = decisionLatency.get(strategy);
+    if (histogram == null) {
+      histogram = decisionLatency.computeIfAbsent(strategy, name -> {
+        LatencyHistogram created = new LatencyHistogram();
+        register("type=Latency,name=" + ObjectName.quote("strategy." + name), created);
+        return created;
+      });
+    }
+    return histogram;
+  }
+
+  @Override
+  public long getGamesStarted() {
+    return gamesStarted.sum();
+  }
+
+  @Override
+  public long getRedPlacements() {
+    return redPlacements.sum();
+  }
+
+  @Override
+  public long getBluePlacements() {
+    return bluePlacements.sum();
+  }
+
+  @Override
+  public long getRedPasses() {
+    return redPasses.sum();
+  }
+
+  @Override
+  public long getBluePasses() {
+    return bluePasses.sum();
+  }
+
+  @Override
+  public long getInfluenceFlips() {
+    return influenceFlips.sum();
+  }
+
+  @Override
+  public long getRejectedMoves() {
+    return rejectedMoves.sum();
+  }
+
+  @Override
+  public void reset() {
+    gamesStarted.reset();
+    redPlacements.reset();
+    bluePlacements.reset();
+    redPasses.reset();
+    bluePasses.reset();
+    influenceFlips.reset();
+    rejectedMoves.reset();
+    placementLatency.reset();
+    listenerLatency.reset();
+    deckLoadLatency.reset();
+    for (LatencyHistogram histogram : decisionLatency.values()) {
+      histogram.reset();
+    }
+  }
+}
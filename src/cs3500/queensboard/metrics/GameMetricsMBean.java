@@ -0,0 +1,48 @@
+package cs3500.queensboard.metrics;
+
+/**
+ * Management interface of the GameMetrics counters, as seen from a JMX console. Latencies are
+ * exposed as separate LatencyHistogram beans.
+ */
+public interface GameMetricsMBean {
+
+  /**
+   * Returns the number of games started.
+   */
+  long getGamesStarted();
+
+  /**
+   * Returns the number of cards red has placed.
+   */
+  long getRedPlacements();
+
+  /**
+   * Returns the number of cards blue has placed.
+   */
+  long getBluePlacements();
+
+  /**
+   * Returns the number of times red has passed.
+   */
+  long getRedPasses();
+
+  /**
+   * Returns the number of times blue has passed.
+   */
+  long getBluePasses();
+
+  /**
+   * Returns the number of cells whose owner was flipped by influence.
+   */
+  long getInfluenceFlips();
+
+  /**
+   * Returns the number of moves the controller tried that the board rejected.
+   */
+  long getRejectedMoves();
+
+  /**
+   * Resets every counter and histogram.
+   */
+  void reset();
+}
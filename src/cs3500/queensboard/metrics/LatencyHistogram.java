@@ -0,0 +1,132 @@
+package cs3500.queensboard.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds that many threads can record into without locking.
+ * Buckets are log-linear, the way HDR histograms lay them out: values below 8 have a bucket
+ * each, and every power of two above that is split into 8 buckets, so a percentile is off by
+ * at most 12.5% whatever the magnitude. Each bucket is a LongAdder, which stripes its count
+ * across cells when threads contend, so recording stays cheap from many games at once.
+ */
+public final class LatencyHistogram implements LatencyHistogramMBean {
+  private static final int SUB_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = (62 - SUB_BITS + 2) * SUB_BUCKETS;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates an empty histogram.
+   */
+  public LatencyHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records one latency. Negative latencies are counted as 0.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    buckets[bucketOf(value)].increment();
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  // Bucket holding the value, see the class comment for the layout
+  private static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  // Highest value that falls in the bucket
+  private static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+    long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BITS);
+    return lower + (1L << (exponent - SUB_BITS)) - 1;
+  }
+
+  /**
+   * Returns the latency below which the given fraction of the recorded latencies fall, to
+   * within the width of a bucket.
+   *
+   * @param fraction between 0 and 1
+   * @return the latency in nanoseconds, 0 if nothing was recorded
+   * @throws IllegalArgumentException if the fraction is not between 0 and 1
+   */
+  public long getPercentile(double fraction) {
+    if (fraction < 0 || fraction > 1) {
+      throw new IllegalArgumentException("Fraction must be between 0 and 1");
+    }
+    long recorded = count.sum();
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(fraction * recorded));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += buckets[i].sum();
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), max.get());
+      }
+    }
+    return max.get(); // recorded while summing
+  }
+
+  @Override
+  public long getCount() {
+    return count.sum();
+  }
+
+  @Override
+  public double getMeanMicros() {
+    long recorded = count.sum();
+    return recorded == 0 ? 0 : total.sum() / 1e3 / recorded;
+  }
+
+  @Override
+  public double getMaxMicros() {
+    return max.get() / 1e3;
+  }
+
+  @Override
+  public double getP50Micros() {
+    return getPercentile(0.5) / 1e3;
+  }
+
+  @Override
+  public double getP90Micros() {
+    return getPercentile(0.9) / 1e3;
+  }
+
+  @Override
+  public double getP99Micros() {
+    return getPercentile(0.99) / 1e3;
+  }
+
+  @Override
+  public void reset() {
+    for (LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+}
@@ -0,0 +1,42 @@
+package cs3500.queensboard.metrics;
+
+/**
+ * Management interface of a LatencyHistogram, as seen from a JMX console.
+ */
+public interface LatencyHistogramMBean {
+
+  /**
+   * Returns the number of latencies recorded.
+   */
+  long getCount();
+
+  /**
+   * Returns the mean latency, in microseconds.
+   */
+  double getMeanMicros();
+
+  /**
+   * Returns the highest latency recorded, in microseconds.
+   */
+  double getMaxMicros();
+
+  /**
+   * Returns the median latency, in microseconds.
+   */
+  double getP50Micros();
+
+  /**
+   * Returns the 90th percentile latency, in microseconds.
+   */
+  double getP90Micros();
+
+  /**
+   * Returns the 99th percentile latency, in microseconds.
+   */
+  double getP99Micros();
+
+  /**
+   * Forgets every latency recorded so far.
+   */
+  void reset();
+}
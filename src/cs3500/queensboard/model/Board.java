@@ -0,0 +1,1318 @@
+package cs3500.queensboard.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.controller.ModelStatus;
+import cs3500.queensboard.metrics.GameMetrics;
+
+/**
+ * Represents a playable game board consisting of cells.
+ * This class manages the state of the game, including the board layout,
+ * players' hands, decks, scores, and turn tracking.
+ * Responsibilities of this class include:
+ * - Maintaining the dimensions of the board.
+ * - Storing the game state, including whether it is active or has ended.
+ * - Managing decks and hands for both players (Red and Blue).
+ * - Tracking players' scores based on row completion.
+ * - Keeping track of whose turn it is and whether the last move was a pass.
+ * - Handling deck configurations and potential shuffle mechanics.
+ * The board is stored in a {@code PackedGrid}, which packs the owner, pawn count and card of
+ * each cell into a single int. {@code Cell} objects are only created as views when requested
+ * through getCell, so placing cards and applying influence never allocate cells.
+ * A 64-bit Zobrist hash of the game state is kept up to date as moves are made, see
+ * getStateHash, along with a hash of the cards left in the decks, see getPositionHash.
+ * After every change the board publishes an immutable BoardSnapshot through a volatile field,
+ * which other threads can read through getSnapshot without locking. Only the rows a move
+ * changed are copied into the new snapshot, the rest are shared with the previous one.
+ * Moves and listener calls are recorded as flight recorder events (MovePlaced and
+ * ListenerDispatch) rather than printed, so a game can be profiled with JFR, and counted in
+ * GameMetrics. Only boards made with the public constructor record them: copies made for
+ * search make moves nobody plays, so they pay for neither.
+ */
+public class Board implements QueensBoard {
+  // Kinds of moves recorded in the journal
+  private static final int PLACE = 0;
+  private static final int PASS = 1;
+  private static final Player[] PLAYERS = Player.values();
+
+  private int widthLength; //cols
+  private int heightLength; //rows
+  private boolean gameState;
+  private DeckConfig deckConfig;
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+  private List<Card> redHand;
+  private List<Card> blueHand;
+  private int[] redRowScores; // sum of red card values per row
+  private int[] blueRowScores; // sum of blue card values per row
+  private int redScore; // sum of the rows red is winning
+  private int blueScore; // sum of the rows blue is winning
+  private Player winner;
+  private PackedGrid grid; // packed cells, 0 indexed in row-major order
+  private Player turn; // Keep track of whose turn it is
+  private boolean lastPassRed; // Determines if last move Red made was a pass
+  private boolean lastPassBlue;
+  private boolean shuffle;
+  private long seed; // seed of the shuffle, so a shuffled game can be played again
+  private String redDeckPath;
+  private String blueDeckPath;
+  private MoveJournal journal = new MoveJournal(); // what each move changed, for undo
+  private boolean recording; // whether cell changes are being recorded in the journal
+  private int recordedCells; // cells recorded for the move being made
+  private long handHash; // sum of the Zobrist keys of the cards in both hands
+  private long deckHash; // sum of the Zobrist keys of the cards left in both decks
+  private int[] handCosts; // cards of each cost (1 to 3) in each hand, at player * 4 + cost
+  private final IndexedLegalMoves redMoves = new IndexedLegalMoves(Player.RED);
+  private final IndexedLegalMoves blueMoves = new IndexedLegalMoves(Player.BLUE);
+  private volatile BoardSnapshot snapshot; // state as of the last change
+  private boolean publishing; // whether a snapshot is published after every change
+  private List<Card> redDeckBase; // immutable copies the decks in snapshots are views of
+  private List<Card> blueDeckBase;
+  private ModelEventPublisher events; // created when first asked for
+  private int influencedCells; // cells changed by the last influence applied
+  private int flippedCells; // cells whose owner the last influence applied flipped
+  private boolean metered; // whether moves are recorded for JFR and GameMetrics, not copies
+
+  private List<ModelStatus> listeners = new ArrayList<>();
+
+  // Add a listener to the model
+  public void addListener(ModelStatus listener) {
+    listeners.add(listener);
+  }
+
+  // Notify all listeners when the board state changes
+  private void notifyListeners() {
+    long start = metered ? System.nanoTime() : 0;
+    ListenerDispatchEvent event = metered ? new ListenerDispatchEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    for (ModelStatus listener : listeners) {
+      listener.update();
+    }
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.listeners = listeners.size();
+        event.commit();
+      }
+      if (!listeners.isEmpty()) {
+        GameMetrics.get().recordListenerDispatch(System.nanoTime() - start);
+      }
+    }
+  }
+
+  /**
+   * Returns the stream of events this board publishes as moves are made. Unlike listeners,
+   * subscribers are never called on the thread making the move.
+   *
+   * @return the board's event publisher
+   */
+  @Override
+  public ModelEventPublisher getEvents() {
+    if (events == null) {
+      events = new ModelEventPublisher();
+    }
+    return events;
+  }
+
+  // Publishes an event with the current snapshot, if anything is subscribed
+  private void emit(ModelEvent.Kind kind, Player player, int row, int col, Card card) {
+    if (events != null && events.hasSubscribers()) {
+      events.submit(new ModelEvent(kind, player, row, col, card, getSnapshot()));
+    }
+  }
+
+  // Publishes GAME_OVER if the move just made ended the game
+  private void emitIfGameOver() {
+    if (isGameOver()) {
+      emit(ModelEvent.Kind.GAME_OVER, winner, -1, -1, null);
+    }
+  }
+
+
+  /**
+   * Returns the player (RED or BLUE) who's current turn it is.
+   */
+  @Override
+  public Player getTurn() {
+    return this.turn;
+  }
+
+  /**
+   * Overwrites the cell at a specific coordinate with the contents of the given cell.
+   *
+   * @param row  position of the cell
+   * @param col  position of the cell
+   * @param cell cell whose card, pawns and owner are copied onto the board
+   * @throws IllegalArgumentException if the cell holds more than 15 pawns
+   */
+  public void setCell(int row, int col, Cell cell) {
+    int idx = grid.index(row, col);
+    boolean hadCard = grid.hasCard(idx);
+    Player oldOwner = grid.getOwner(idx);
+    int oldScore = grid.getCellScore(idx);
+    if (cell.hasCard()) {
+      grid.setCard(idx, cell.getCard(), cell.getOwner());
+    } else {
+      grid.setPawns(idx, cell.getPawnCount(), cell.getOwner()); // checked before any change
+    }
+    journal.clear(); // recorded cell values could be stale after this
+    if (hadCard) {
+      addToRowScore(row, oldOwner, -oldScore);
+    }
+    if (cell.hasCard()) {
+      addToRowScore(row, cell.getOwner(), cell.getCellScore());
+    }
+    publish();
+  }
+
+  /**
+   * Sets a cell to hold pawns, for the BoardCell view of it. Like setCell, this is not a move
+   * and cannot be undone.
+   *
+   * @param idx   row-major index of the cell
+   * @param count number of pawns
+   * @param owner owner of the pawns
+   */
+  void setCellPawns(int idx, int count, Player owner) {
+    grid.setPawns(idx, count, owner);
+    journal.clear(); // recorded cell values could be stale after this
+    publish();
+  }
+
+  /**
+   * Changes the owner of a cell to the other player, for the BoardCell view of it. A card
+   * changing hands moves its value to the new owner's row score. Like setCell, this is not a
+   * move and cannot be undone.
+   *
+   * @param idx row-major index of the cell
+   */
+  void flipCellOwner(int idx) {
+    Player owner = grid.getOwner(idx);
+    if (grid.hasCard(idx) && owner != Player.NONE) {
+      int row = idx / widthLength;
+      addToRowScore(row, owner, -grid.getCellScore(idx));
+      addToRowScore(row, owner == Player.RED ? Player.BLUE : Player.RED,
+              grid.getCellScore(idx));
+    }
+    grid.flipOwner(idx);
+    journal.clear(); // recorded cell values could be stale after this
+    publish();
+  }
+
+  /**
+   * Represents the possibilities of a Player( RED, BLUE, or NONE).
+   */
+  public enum Player {
+    RED,
+    BLUE,
+    NONE;
+
+    /**
+     * Checks if the player is RED.
+     *
+     * @return true if the player is RED, false otherwise
+     */
+    public boolean isRed() {
+      return this == RED;
+    }
+
+    /**
+     * Checks if the player is BLUE.
+     *
+     * @return true if the player is BLUE, false otherwise
+     */
+    public boolean isBlue() {
+      return this == BLUE;
+    }
+  }
+
+  /**
+   * Constructor to create a board object.
+   *
+   * @param heightLength number of rows
+   * @param widthLength  number of columns
+   * @param shuffle      whether decks are shuffled when the game starts, with a random seed
+   * @param deckConfig   instance of deck configuration
+   * @throws IllegalArgumentException if number of rows is less than 0
+   * @throws IllegalArgumentException if number of columns is less than 1 or is even
+   * @throws IllegalArgumentException if deck configuration is null
+   */
+  public Board(int heightLength, int widthLength, boolean shuffle, DeckConfig deckConfig,
+               String redDeckPath, String blueDeckPath) {
+    this(heightLength, widthLength, shuffle, deckConfig, redDeckPath, blueDeckPath,
+            new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Constructor to create a board whose decks are shuffled from the given seed, so the same
+   * seed always deals the same game. Simulations running games in parallel can give each
+   * game its own seed, e.g. from SplittableRandom.split(), so no random generator is shared.
+   *
+   * @param heightLength number of rows
+   * @param widthLength  number of columns
+   * @param shuffle      whether decks are shuffled when the game starts
+   * @param deckConfig   instance of deck configuration
+   * @param seed         seed of the shuffle
+   * @throws IllegalArgumentException if number of rows is less than 0
+   * @throws IllegalArgumentException if number of columns is less than 1 or is even
+   * @throws IllegalArgumentException if deck configuration is null
+   */
+  public Board(int heightLength, int widthLength, boolean shuffle, DeckConfig deckConfig,
+               String redDeckPath, String blueDeckPath, long seed) {
+    if (heightLength <= 0) {
+      throw new IllegalArgumentException("Board must have at least one row");
+    }
+    if (widthLength <= 1 || widthLength % 2 == 0) {
+      throw new IllegalArgumentException("Board must have more than one column and be odd");
+    }
+
+    if (deckConfig == null) {
+      throw new IllegalArgumentException("Board must have a deck config");
+    }
+    this.heightLength = heightLength;
+    this.widthLength = widthLength;
+    this.deckConfig = deckConfig;
+    this.redDeck = deckConfig.getRedDeck();
+    this.blueDeck = deckConfig.getBlueDeck();
+    this.shuffle = shuffle;
+    this.seed = seed;
+    initializeGame(redDeckPath, blueDeckPath);
+    hashDecks();
+    this.publishing = true;
+    this.metered = true;
+    publish();
+  }
+
+  /**
+   * Initializes game state, deck, hand, and board.
+   */
+  private void initializeGame(String redDeckPath, String blueDeckPath) {
+    this.gameState = false;  // The game has not started yet.
+    //nobody passed yet
+    lastPassRed = false;
+    lastPassBlue = false;
+
+    deckConfig = new DeckConfig();  // Initialize the deck configuration.
+    deckConfig.loadDeck(redDeckPath, blueDeckPath);  // Load the deck with cards.
+
+    List<Card> redDeck = deckConfig.getRedDeck();  // Get the red deck from deck config.
+    List<Card> blueDeck = deckConfig.getBlueDeck();  // Get the blue deck from deck config.
+
+    this.redHand = new ArrayList<>();  // Initialize red player's hand.
+    this.blueHand = new ArrayList<>();  // Initialize blue player's hand.
+
+    this.grid = new PackedGrid(heightLength, widthLength);
+    this.redRowScores = new int[heightLength];
+    this.blueRowScores = new int[heightLength];
+    this.redScore = 0;
+    this.blueScore = 0;
+    this.winner = Player.NONE;
+    this.handHash = 0;
+    this.handCosts = new int[8];
+    this.turn = Player.RED;  // Red starts the game.
+
+    // Set up the board:
+    // - Fill the first column with red pawns.
+    // - Fill the last column with blue pawns.
+    // - Fill the rest of the board with 'X' (empty cells).
+
+    // Initialize the first and last columns, the rest of the grid starts out empty
+    for (int row = 0; row < heightLength; row++) {
+      // First column: Red pawns
+      grid.setPawns(grid.index(row, 0), 1, Board.Player.RED);  // Pawn value of 1 for red
+      // Last column: Blue pawns
+      grid.setPawns(grid.index(row, widthLength - 1), 1, Board.Player.BLUE);
+    }
+  }
+
+  /**
+   * Copy constructor used by copy(). Copies the game state without loading any deck files.
+   *
+   * @param other the board to copy
+   */
+  private Board(Board other) {
+    this.heightLength = other.heightLength;
+    this.widthLength = other.widthLength;
+    this.shuffle = other.shuffle;
+    this.seed = other.seed;
+    this.deckConfig = other.deckConfig;
+    this.redDeckPath = other.redDeckPath;
+    this.blueDeckPath = other.blueDeckPath;
+
+    // Copy game state
+    this.gameState = other.gameState;
+    this.turn = other.turn;
+    this.lastPassRed = other.lastPassRed;
+    this.lastPassBlue = other.lastPassBlue;
+    this.redRowScores = other.redRowScores.clone();
+    this.blueRowScores = other.blueRowScores.clone();
+    this.redScore = other.redScore;
+    this.blueScore = other.blueScore;
+    this.winner = other.winner;
+
+    // Deep copy decks and hands
+    this.redDeck = new ArrayList<>(other.redDeck);
+    this.blueDeck = new ArrayList<>(other.blueDeck);
+    this.redHand = new ArrayList<>(other.redHand);
+    this.blueHand = new ArrayList<>(other.blueHand);
+    this.handHash = other.handHash;
+    this.deckHash = other.deckHash;
+    this.handCosts = other.handCosts.clone();
+
+    // Copy the packed cells, cards are immutable during play so they are shared
+    this.grid = new PackedGrid(other.grid);
+    this.publishing = false; // until someone asks for a snapshot of the copy
+  }
+
+  /**
+   * Creates a board in the state of a snapshot, used by BoardSnapshot.copy(). Like copy(),
+   * no deck files are read and the board has no listeners and no moves to undo.
+   *
+   * @param snapshot the snapshot to copy
+   */
+  Board(BoardSnapshot snapshot) {
+    this.heightLength = snapshot.getHeight();
+    this.widthLength = snapshot.getWidth();
+    this.shuffle = snapshot.getShuffle();
+    this.deckConfig = snapshot.getDeckConfig();
+    this.turn = snapshot.getTurn();
+    setStateFlags(snapshot.getStateFlags());
+
+    this.grid = new PackedGrid(heightLength, widthLength);
+    this.redRowScores = new int[heightLength];
+    this.blueRowScores = new int[heightLength];
+    this.winner = Player.NONE;
+    for (int row = 0; row < heightLength; row++) {
+      for (int col = 0; col < widthLength; col++) {
+        int idx = grid.index(row, col);
+        Player owner = snapshot.getOwnerAt(row, col);
+        Card card = snapshot.getCardAt(row, col);
+        if (card != null) {
+          grid.setCard(idx, card, owner);
+          addToRowScore(row, owner, card.getValue());
+        } else if (owner != Player.NONE || snapshot.getPawnsAt(row, col) != 0) {
+          grid.setPawns(idx, snapshot.getPawnsAt(row, col), owner);
+        }
+      }
+    }
+
+    this.redDeck = new ArrayList<>(snapshot.getDeck(Player.RED));
+    this.blueDeck = new ArrayList<>(snapshot.getDeck(Player.BLUE));
+    hashDecks();
+    this.redHand = new ArrayList<>(snapshot.getHandOf(Player.RED));
+    this.blueHand = new ArrayList<>(snapshot.getHandOf(Player.BLUE));
+    this.handCosts = new int[8];
+    for (Card card : redHand) {
+      handAdded(card, Player.RED);
+    }
+    for (Card card : blueHand) {
+      handAdded(card, Player.BLUE);
+    }
+    this.publishing = false;
+  }
+
+  /**
+   * Creates a deep copy of the current Board. No deck files are read, and the copy has no
+   * listeners and no moves to undo.
+   *
+   * @return a new Board object that is an identical copy of this board.
+   */
+  public Board copy() {
+    return new Board(this);
+  }
+
+
+  /**
+   * Places a card from the hand to a given position on the polygonal board and then
+   * draws a card from the deck if able.
+   *
+   * @param cardIdx index of the card in hand to place (0-index based)
+   * @param row     row to place the card in (0-index based)
+   * @param col     column to place the card in (0-index based)
+   * @throws IllegalStateException    if the game has not started or there is a card at the given
+   *                                  position
+   * @throws IllegalArgumentException if cardIdx is out of bounds of the hand or
+   *                                  row and col do not indicate a position on the polygon
+   * @throws IllegalStateException    if the target cell is invalid
+   * @throws IllegalStateException    if not enough pawns to place card
+   */
+  public void placeCardInPosition(int cardIdx, int row, int col) {
+    long start = metered ? System.nanoTime() : 0;
+    MovePlacedEvent event = metered ? new MovePlacedEvent() : null; // search copies skip it
+    if (event != null) {
+      event.begin();
+    }
+
+    if (!gameState) {
+      throw new IllegalStateException("Game has not started or is already finished.");
+    }
+
+    // Debug: Check for invalid board position
+    if (row < 0 || row >= heightLength || col < 0 || col >= widthLength) {
+      throw new IllegalArgumentException("Invalid board position.");
+    }
+
+    // Get the current player's hand and deck
+    List<Card> currentHand = (turn == Player.RED) ? redHand : blueHand;
+    List<Card> currentDeck = (turn == Player.RED) ? redDeck : blueDeck;
+
+    // Validate card index
+    if (cardIdx < 0 || cardIdx >= currentHand.size()) {
+      throw new IllegalArgumentException("Invalid card index.");
+    }
+
+    Card card = currentHand.get(cardIdx);
+
+    if (card == null) {
+      throw new IllegalStateException("Cannot place a null card.");
+    }
+
+    int target = grid.index(row, col);
+
+    if (grid.hasCard(target)) {
+      throw new IllegalStateException("Cannot place a card on cell that already has a card.");
+    }
+
+    if (grid.getPawnCount(target) < card.getCost()) {
+      throw new IllegalStateException("Not enough pawns to place this card.");
+    }
+
+    if (grid.isEmpty(target)) {
+      throw new IllegalStateException("Target cell is empty.");
+    }
+
+    if (grid.getOwner(target) != turn) {
+      throw new IllegalStateException("Don't own this pawn or it's not your turn.");
+    }
+
+    // Remember everything this move changes so it can be undone
+    int oldState = getStateFlags();
+    recording = true;
+    recordedCells = 0;
+    recordCell(target);
+
+    // The card replaces the pawns in the cell
+    grid.setCard(target, card, turn);
+    addToRowScore(row, turn, card.getValue());
+    currentHand.remove(cardIdx);
+    handRemoved(card, turn);
+
+    applyInfluence(card, row, col);
+    recording = false;
+
+    boolean drew = false;
+    if (!currentDeck.isEmpty() && currentHand.size() < deckConfig.getMaxHandSize()) {
+      Card drawn = currentDeck.remove(0);
+      deckHash -= Zobrist.deckCard(Zobrist.card(drawn), turn, currentDeck.size());
+      currentHand.add(drawn);
+      handAdded(drawn, turn);
+      drew = true;
+    }
+
+    journal.push(target);
+    journal.push(cardIdx);
+    journal.push(drew ? 1 : 0);
+    journal.push(oldState);
+    journal.push(turn.ordinal());
+    journal.push(recordedCells);
+    journal.push(PLACE);
+
+    //TODO need this?
+    //if red just placed a card set pass to false
+    if (turn == Player.RED) {
+      lastPassRed = false;
+    }
+    if (turn == Player.BLUE) {
+      lastPassBlue = false;
+    }
+
+    // Switch turn
+    Player mover = turn;
+    turn = (turn == Player.RED) ? Player.BLUE : Player.RED;
+
+
+    publish();
+    emit(ModelEvent.Kind.CARD_PLACED, mover, row, col, card);
+    emit(ModelEvent.Kind.INFLUENCE_APPLIED, mover, row, col, card);
+    emitIfGameOver();
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.player = mover.name();
+        event.card = card.getName();
+        event.row = row;
+        event.col = col;
+        event.cellsInfluenced = influencedCells;
+        event.ownershipFlips = flippedCells;
+        event.gameOver = isGameOver();
+        event.commit();
+      }
+      GameMetrics.get().recordPlacement(mover, flippedCells, System.nanoTime() - start);
+    }
+    notifyListeners();
+  }
+
+
+  /**
+   * Apply the influence grid to the cells influenced by the placed card.
+   *
+   * @param card    that is being placed on the game board.
+   * @param cardRow of cell that is influenced
+   * @param cardCol of cell that is influenced
+   */
+  public void applyInfluence(Card card, int cardRow, int cardCol) {
+    InfluenceKernel kernel = card.getInfluenceKernel(); // Only the cells the card influences
+    Board.Player infl = card.getInfluence();
+    influencedCells = 0;
+    flippedCells = 0;
+
+    for (int k = 0; k < kernel.size(); k++) {
+      int targetRow = cardRow + kernel.getRowOffset(k);
+      int targetCol = cardCol + kernel.getColOffset(k);
+
+      if (isValidCell(targetRow, targetCol)) { // Ensure within bounds
+        int target = grid.index(targetRow, targetCol);
+
+        if (grid.hasCard(target)) {
+          continue; // Influence does nothing if there is a card
+        }
+        recordCell(target);
+        influencedCells++;
+        if (grid.isEmpty(target)) {
+          grid.setPawns(target, 1, infl); // Add a pawn if the cell is empty
+        } else {
+          if (grid.getOwner(target) == infl) {
+            // Increase pawn count, capped at 3
+            grid.setPawns(target, Math.min(grid.getPawnCount(target) + 1, 3), infl);
+          } else {
+            // Change ownership
+            grid.flipOwner(target);
+            flippedCells++;
+          }
+        }
+      }
+    }
+    if (!recording) {
+      publish(); // called on its own rather than as part of placing a card
+    }
+  }
+
+  /**
+   * Return the cell at a specific coordinate. The returned cell is a view of the board,
+   * so it always reflects the current state of that position.
+   *
+   * @param row position of the cell
+   * @param col position of the cell
+   * @return a cell object at that position
+   */
+  public Cell getCell(int row, int col) {
+    if (isValidCell(row, col)) {
+      return new BoardCell(this, grid, grid.index(row, col));
+    }
+    return null; // Return null if the cell is out of bounds
+  }
+
+  /**
+   * Determine if the cell at a specific coordinate is a valid instance of a cell.
+   *
+   * @param row position of the cell
+   * @param col position of the cell
+   * @return true if the cell at that position is valid
+   */
+  public Boolean isValidCell(int row, int col) {
+    return row >= 0 && row < heightLength && col >= 0 && col < widthLength;
+  }
+
+
+  /**
+   * handle passing instead of placing card.
+   */
+  private void nextTurn() {
+    turn = (turn == Player.RED) ? Player.BLUE : Player.RED;
+    resetPassStates();
+    publish();
+    notifyListeners();
+  }
+
+  private void resetPassStates() {
+    lastPassRed = false;
+    lastPassBlue = false;
+  }
+
+  /**
+   * handle passing instead of placing card.
+   */
+  @Override
+  public void pass() {
+    MovePlacedEvent event = metered ? new MovePlacedEvent() : null; // search copies skip it
+    if (event != null) {
+      event.begin();
+    }
+    // Check if the game has started and is still in progress
+    if (!gameState) {
+      throw new IllegalStateException("Game has not started or is already finished.");
+    }
+
+    journal.push(getStateFlags());
+    journal.push(turn.ordinal());
+    journal.push(PASS);
+
+    // Check if the current player passed their turn
+    if (turn == Player.RED) {
+      lastPassRed = true; // Red passes
+    }
+    else if (turn == Player.BLUE) {
+      lastPassBlue = true; // Blue passes
+    }
+
+    // Check if both players have passed consecutively
+    if (lastPassRed && lastPassBlue) {
+      gameState = false; // End the game if both players pass consecutively
+    }
+
+    // Switch turn if only one player passes
+    Player mover = turn;
+    turn = (turn == Player.RED) ? Player.BLUE : Player.RED;
+
+    // Notify listeners that the game state has changed
+    publish();
+    emit(ModelEvent.Kind.PASSED, mover, -1, -1, null);
+    emitIfGameOver();
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.player = mover.name();
+        event.pass = true;
+        event.row = -1;
+        event.col = -1;
+        event.gameOver = isGameOver();
+        event.commit();
+      }
+      GameMetrics.get().recordPass(mover);
+    }
+    notifyListeners();
+  }
+
+  /**
+   * Reverts the most recent placeCardInPosition or pass in place, restoring the cells,
+   * scores, hands, decks, turn and pass flags it changed.
+   *
+   * @throws IllegalStateException if there is no move to undo
+   */
+  @Override
+  public void undo() {
+    if (journal.isEmpty()) {
+      throw new IllegalStateException("No moves to undo.");
+    }
+    int kind = journal.pop();
+    if (kind == PLACE) {
+      int cells = journal.pop();
+      Player mover = PLAYERS[journal.pop()];
+      int oldState = journal.pop();
+      boolean drew = journal.pop() == 1;
+      int cardIdx = journal.pop();
+      int target = journal.pop();
+
+      Card card = grid.getCard(target);
+      addToRowScore(target / widthLength, mover, -card.getValue());
+      // Cells were recorded as (index, old value) pairs, so they come back value first
+      for (int i = 0; i < cells; i++) {
+        int raw = journal.pop();
+        grid.setRaw(journal.pop(), raw);
+      }
+
+      List<Card> hand = (mover == Player.RED) ? redHand : blueHand;
+      List<Card> deck = (mover == Player.RED) ? redDeck : blueDeck;
+      if (drew) {
+        Card drawn = hand.remove(hand.size() - 1);
+        deckHash += Zobrist.deckCard(Zobrist.card(drawn), mover, deck.size());
+        deck.add(0, drawn);
+        handRemoved(drawn, mover);
+      }
+      hand.add(cardIdx, card);
+      handAdded(card, mover);
+      turn = mover;
+      setStateFlags(oldState);
+    } else {
+      turn = PLAYERS[journal.pop()];
+      setStateFlags(journal.pop());
+    }
+    publish();
+    emit(ModelEvent.Kind.UNDONE, turn, -1, -1, null);
+    notifyListeners();
+  }
+
+  // Records the current value of a cell if a move is being recorded
+  private void recordCell(int idx) {
+    if (recording) {
+      journal.push(idx);
+      journal.push(grid.getRaw(idx));
+      recordedCells++;
+    }
+  }
+
+  /**
+   * Returns a 64-bit Zobrist hash of the game state: the owner, pawns and card of every cell,
+   * the side to move, the pass flags and the contents of both hands (order within a hand does
+   * not matter, duplicates do). The cell and hand parts are updated as each move changes them,
+   * so this is O(1). Equal states always have equal hashes, within and across runs.
+   *
+   * @return the hash of the current game state
+   */
+  @Override
+  public long getStateHash() {
+    return grid.getHash() ^ Zobrist.state(turn.ordinal(), getStateFlags())
+            ^ Zobrist.mix(handHash);
+  }
+
+  /**
+   * Returns a 64-bit hash of the position: the state hashed by getStateHash together with the
+   * order of the cards left in both decks. The state hash leaves the decks out, so games dealt
+   * from differently ordered decks can reach states with equal hashes that play out
+   * differently once cards are drawn; results that depend on the cards still to be drawn, like
+   * those of a search, should be kept under this hash instead. It is updated as cards are
+   * drawn and put back, so this is O(1).
+   *
+   * @return the hash of the current position, decks included
+   */
+  public long getPositionHash() {
+    return getStateHash() ^ Zobrist.mix(deckHash);
+  }
+
+  // Hashes the decks from scratch, after they were replaced or reordered
+  private void hashDecks() {
+    deckHash = 0;
+    for (int i = 0; i < redDeck.size(); i++) {
+      deckHash += Zobrist.deckCard(Zobrist.card(redDeck.get(i)), Player.RED,
+              redDeck.size() - 1 - i);
+    }
+    for (int i = 0; i < blueDeck.size(); i++) {
+      deckHash += Zobrist.deckCard(Zobrist.card(blueDeck.get(i)), Player.BLUE,
+              blueDeck.size() - 1 - i);
+    }
+  }
+
+  // Accounts for a card entering a player's hand in the hash and the cost counts
+  private void handAdded(Card card, Player player) {
+    handHash += Zobrist.handCard(Zobrist.card(card), player);
+    if (card.getCost() >= 1 && card.getCost() <= 3) {
+      handCosts[player.ordinal() * 4 + card.getCost()]++;
+    }
+  }
+
+  // Accounts for a card leaving a player's hand in the hash and the cost counts
+  private void handRemoved(Card card, Player player) {
+    handHash -= Zobrist.handCard(Zobrist.card(card), player);
+    if (card.getCost() >= 1 && card.getCost() <= 3) {
+      handCosts[player.ordinal() * 4 + card.getCost()]--;
+    }
+  }
+
+  /**
+   * Returns a cursor over every legal placement of the given player's cards. The board keeps
+   * the cells each player could place on grouped by pawn count, so only cells where a card fits
+   * are visited. The same cursor is reused by the next call for the same player, so this does
+   * not allocate.
+   *
+   * @param player the player whose moves are wanted
+   * @return a cursor over the legal moves, valid until the board changes
+   */
+  @Override
+  public LegalMoves legalMoves(Player player) {
+    if (player == Player.RED) {
+      return redMoves.reset(grid, gameState ? redHand : List.of());
+    } else if (player == Player.BLUE) {
+      return blueMoves.reset(grid, gameState ? blueHand : List.of());
+    }
+    throw new IllegalArgumentException("Player must be RED or BLUE");
+  }
+
+  /**
+   * Returns whether the given player could place any card from their hand, in O(1): the sizes
+   * of the pawn groups are checked against the number of cards of each cost in the hand.
+   *
+   * @param player the player to check
+   * @return true if the player has at least one legal move
+   */
+  @Override
+  public boolean hasLegalMove(Player player) {
+    if (!gameState || player == Player.NONE) {
+      return false;
+    }
+    // Going down from 3 pawns, cells counts the cells with at least that many pawns
+    int cells = 0;
+    for (int pawns = 3; pawns >= 1; pawns--) {
+      cells += grid.getGroupSize(player, pawns);
+      if (cells > 0 && handCosts[player.ordinal() * 4 + pawns] > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns an immutable snapshot of the board as of the last change. Boards created with the
+   * public constructor publish a snapshot after every change, so this is a single volatile read
+   * and is safe to call from any thread. Copies made by copy() only start publishing once this
+   * is first called, so boards used for searching do not pay for snapshots nobody reads.
+   *
+   * @return the latest snapshot of the board
+   */
+  @Override
+  public BoardSnapshot getSnapshot() {
+    if (!publishing) {
+      publishing = true;
+      publish();
+    }
+    return snapshot;
+  }
+
+  /**
+   * Publishes a snapshot of the current state, reusing the rows of the previous snapshot that
+   * no cell change has touched since.
+   */
+  private void publish() {
+    if (!publishing) {
+      return;
+    }
+    BoardSnapshot previous = snapshot;
+    BoardSnapshot.Row[] rows = previous == null
+            ? new BoardSnapshot.Row[heightLength] : previous.getRows().clone();
+    for (int row = 0; row < heightLength; row++) {
+      if (rows[row] == null || grid.isRowDirty(row)) {
+        rows[row] = new BoardSnapshot.Row(grid, row, redRowScores[row], blueRowScores[row]);
+      }
+    }
+    grid.clearDirtyRows();
+
+    snapshot = new BoardSnapshot(rows, widthLength, turn, getStateFlags(),
+            redScore, blueScore, winner, List.copyOf(redHand), List.copyOf(blueHand),
+            redDeckView(), blueDeckView(), getStateHash(), deckConfig, shuffle);
+  }
+
+  // The red deck as a view of an immutable list. During play cards only leave and come back
+  // at the front, so the deck stays a suffix of the same copy and is only copied again if it
+  // was changed some other way.
+  private List<Card> redDeckView() {
+    if (!isSuffix(redDeck, redDeckBase)) {
+      redDeckBase = List.copyOf(redDeck);
+    }
+    return redDeckBase.subList(redDeckBase.size() - redDeck.size(), redDeckBase.size());
+  }
+
+  // The blue deck as a view of an immutable list, see redDeckView
+  private List<Card> blueDeckView() {
+    if (!isSuffix(blueDeck, blueDeckBase)) {
+      blueDeckBase = List.copyOf(blueDeck);
+    }
+    return blueDeckBase.subList(blueDeckBase.size() - blueDeck.size(), blueDeckBase.size());
+  }
+
+  // Whether the deck still lines up with the end of the base copy, checking the ends only
+  private static boolean isSuffix(List<Card> deck, List<Card> base) {
+    if (base == null || deck.size() > base.size()) {
+      return false;
+    }
+    int offset = base.size() - deck.size();
+    return deck.isEmpty() || (deck.get(0) == base.get(offset)
+            && deck.get(deck.size() - 1) == base.get(base.size() - 1));
+  }
+
+  // Packs the pass flags and whether the game is running into an int for the journal
+  private int getStateFlags() {
+    return (lastPassRed ? 1 : 0) | (lastPassBlue ? 2 : 0) | (gameState ? 4 : 0);
+  }
+
+  // Restores flags packed by getStateFlags
+  private void setStateFlags(int flags) {
+    lastPassRed = (flags & 1) != 0;
+    lastPassBlue = (flags & 2) != 0;
+    gameState = (flags & 4) != 0;
+  }
+
+
+  /**
+   * Returns the number of cells the given player owns, with pawns or a card. Kept up to date
+   * by the grid, so this is O(1).
+   *
+   * @param player the player to count cells of
+   * @return cells owned by the player
+   */
+  public int getOwnedCells(Player player) {
+    return grid.getOwnedCount(player);
+  }
+
+  /**
+   * Return the amount of emptySpace are available on the gameboard for gameplay.
+   */
+  public int getEmptySpaces() {
+    return grid.getEmptyCount(); // kept up to date by the grid
+  }
+
+  /**
+   * Starts the game with the given deck and hand size. If shuffle is set to true,
+   * then the deck is shuffled prior to dealing the hand.
+   *
+   * <p>Note that modifying the deck given here outside this method should have no effect
+   * on the game itself.
+   *
+   * @param redDeck  list of red cards to play the game with
+   * @param blueDeck list of blue cards to play the game with
+   * @param handSize maximum hand size for the game
+   * @throws IllegalStateException    if the game has already been started
+   * @throws IllegalArgumentException if the deck is null or contains a null object,
+   *                                  if handSize is not positive (i.e. 0 or less),
+   *                                  or if the deck does not contain enough cards to fill the board
+   *                                  AND fill a starting hand
+   */
+  @Override
+  public void startGame(List<Card> redDeck, List<Card> blueDeck, int handSize) {
+    ///should start as player red
+    this.turn = Player.RED;
+
+    if (gameState) {
+      throw new IllegalStateException("Game already started");
+    }
+
+    this.gameState = true;
+
+    if (redDeck == null || blueDeck == null || handSize <= 0
+            || handSize > deckConfig.getMaxHandSize()) {
+      throw new IllegalArgumentException("Invalid deck or hand size");
+    }
+
+    for (Card card : redDeck) {
+      if (card == null) {
+        throw new IllegalArgumentException("Deck contains a null card.");
+      }
+    }
+
+    // Ensure no nulls in blueDeck
+    for (Card card : blueDeck) {
+      if (card == null) {
+        throw new IllegalArgumentException("Deck contains a null card.");
+      }
+    }
+
+    // Ensure there are enough cards
+    int requiredCards = (widthLength * heightLength);
+    if (redDeck.size() < requiredCards || blueDeck.size() < requiredCards) {
+      throw new IllegalArgumentException("Decks do not contain enough " +
+              "cards to fill the board");
+    }
+
+    if (redDeck.size() < handSize || blueDeck.size() < handSize) {
+      throw new IllegalArgumentException("Not enough cards in the deck to deal hands");
+    }
+
+    if (shuffle) {
+      RandomGenerator random = new SplittableRandom(seed);
+      shuffle(this.redDeck, random);
+      shuffle(this.blueDeck, random);
+    }
+    // The decks were replaced or reordered, so snapshots published so far are no base for them
+    this.redDeckBase = null;
+    this.blueDeckBase = null;
+
+    // Deal the red hand from the top of the deck
+    this.redHand = new ArrayList<>(); //this is empty
+    this.handHash = 0;
+    this.handCosts = new int[8];
+    for (int i = 0; i < handSize; i++) {
+      Card card = this.redDeck.remove(0);
+      this.redHand.add(card);
+      handAdded(card, Player.RED);
+    }
+
+    // Deal the blue hand
+    this.blueHand = new ArrayList<>();
+    for (int i = 0; i < handSize; i++) {
+      Card card = this.blueDeck.remove(0);
+      this.blueHand.add(card);
+      handAdded(card, Player.BLUE);
+    }
+
+    this.lastPassRed = false;
+    hashDecks();
+    journal.clear();
+    if (metered) {
+      GameMetrics.get().recordGameStarted();
+    }
+    publish();
+  }
+
+  // Fisher-Yates shuffle, swapping cards in place
+  private static void shuffle(List<Card> deck, RandomGenerator random) {
+    for (int i = deck.size() - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      deck.set(i, deck.set(j, deck.get(i)));
+    }
+  }
+
+  /**
+   * Retrieve the number of cards that make up the width of the rectangle
+   * that contains the polygon. (e.g. the number of columns in the widest row)
+   *
+   * @return the width of the board
+   */
+  @Override
+  public int getWidth() {
+    return widthLength;
+  }
+
+  /**
+   * Retrieve the number of cards that make up the height of the rectangle
+   * that contains the polygon. (e.g. the number of rows in the highest column)
+   *
+   * @return the height of the board
+   */
+  @Override
+  public int getHeight() {
+    return heightLength;
+  }
+
+  /**
+   * Returns the card in the indicated position on the board. If there is no card on the board
+   * and the position is valid, the method will return null.
+   *
+   * @param row the row to access
+   * @param col the column to access
+   * @return the card in the valid position or null if the position has no card
+   * @throws IllegalArgumentException if the row and column are not a valid location
+   *                                  for a card in the polygonal board
+   */
+  @Override
+  public Card getCardAt(int row, int col) {
+    if (row < 0 || row > heightLength || col < 0 || col > widthLength) {
+      throw new IllegalArgumentException("Given row and column is invalid.");
+    }
+    if (row == heightLength || col == widthLength) {
+      // the packed grid is one flat array, so report the edge the same way a 2D array would
+      throw new ArrayIndexOutOfBoundsException("Given row and column is out of bounds.");
+    }
+    // null if no card is found at that position
+    return grid.getCard(grid.index(row, col));
+  }
+
+  /**
+   * Determines the total score for the given player.
+   *
+   * @param player the player that wants their score
+   * @return the total score of the given player
+   */
+  @Override
+  public int getScore(Player player) {
+    if (player == Player.RED) {
+      return redScore;
+    } else if (player == Player.BLUE) {
+      return blueScore;
+    } else {
+      return 0;
+    }
+  }
+
+  /**
+   * Adds the value of a card to a player's score for a row, and updates the totals and the
+   * winner to match. Only the changed row is looked at, so scores never have to be recomputed
+   * from the cells.
+   *
+   * @param row   row the card is in
+   * @param owner owner of the card
+   * @param delta value being added (negative when a card is removed)
+   */
+  private void addToRowScore(int row, Player owner, int delta) {
+    // Take the row out of the totals, update it, then add it back in
+    if (redRowScores[row] > blueRowScores[row]) {
+      redScore -= redRowScores[row];
+    } else if (blueRowScores[row] > redRowScores[row]) {
+      blueScore -= blueRowScores[row];
+    }
+
+    if (owner == Player.RED) {
+      redRowScores[row] += delta;
+    } else {
+      blueRowScores[row] += delta;
+    }
+
+    if (redRowScores[row] > blueRowScores[row]) {
+      redScore += redRowScores[row];
+    } else if (blueRowScores[row] > redRowScores[row]) {
+      blueScore += blueRowScores[row];
+    }
+
+    if (redScore > blueScore) {
+      winner = Player.RED;
+    } else if (blueScore > redScore) {
+      winner = Player.BLUE;
+    } else {
+      winner = Player.NONE;
+    }
+  }
+
+
+  /**
+   * Return the score of the row based on who has the higher overall row score.
+   *
+   * @param row row number that score is needed for
+   * @return row score
+   */
+  public int getRowScore(int row) {
+    // Determine which one is larger, the other gets no points
+    if (redRowScores[row] == blueRowScores[row]) {
+      return 0;
+    } else {
+      return Math.max(redRowScores[row], blueRowScores[row]); // Return only the larger of the 2
+    }
+  }
+
+  /**
+   * Return the score of red for the given row.
+   *
+   * @param row row number that score is needed for
+   * @return Red's row score
+   */
+  @Override
+  public int getRedRowScore(int row) {
+    return redRowScores[row];
+  }
+
+  /**
+   * Return the score of blue for the given row.
+   *
+   * @param row row number that score is needed for
+   * @return Blue's row score
+   */
+  @Override
+  public int getBlueRowScore(int row) {
+    return blueRowScores[row];
+  }
+
+  /**
+   * Return the deckConfiguration for a file of cards.
+   *
+   * @return a deckConfiguration instance
+   */
+  @Override
+  public DeckConfig getDeckConfig() {
+    return this.deckConfig;
+  }
+
+  /**
+   * Returns a copy of the player's current hand. If their hand is empty, then an empty
+   * list is returned.
+   *
+   * @return a copy of the player's current hand
+   * @throws IllegalStateException if the game has not started
+   */
+  @Override
+  public List<Card> getHand() {
+    if (!gameState) {
+      throw new IllegalStateException("Game has not started");
+    }
+
+    if (this.turn == Player.RED) {
+      return redHand;
+    } else {
+      return blueHand;
+    }
+  }
+
+  /**
+   * Returns a copy of the red player's current hand. If their hand is empty, then an empty
+   * list is returned.
+   *
+   * @return a copy of the player's current hand
+   * @throws IllegalStateException if the game has not started
+   */
+  @Override
+  public List<Card> getRedHand() {
+    if (!gameState) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return redHand;
+  }
+
+  /**
+   * Returns a copy of the blue player's current hand. If their hand is empty, then an empty
+   * list is returned.
+   *
+   * @return a copy of the player's current hand
+   * @throws IllegalStateException if the game has not started
+   */
+  @Override
+  public List<Card> getBlueHand() {
+    if (!gameState) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return blueHand;
+  }
+
+  /**
+   * Determine if the deck should be shuffled.
+   *
+   * @return if deck is shuffled
+   */
+  @Override
+  public boolean getShuffle() {
+    return this.shuffle;
+  }
+
+  /**
+   * Returns the seed the decks are shuffled with, which replays this game's deal when given
+   * to a new board.
+   *
+   * @return the shuffle seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the number of cards left in the deck being used during the game.
+   *
+   * @param player the player that wants their remaining deck size
+   * @return the number of cards left in the deck used in game
+   * @throws IllegalStateException if the game has not started
+   */
+  @Override
+  public int getRemainingDeckSize(Player player) {
+    if (player == Player.RED) {
+      return redDeck.size();
+    } else {
+      return blueDeck.size();
+    }
+  }
+
+  /**
+   * Returns the winner of the ENTIRE game, based on the winner of each row.
+   */
+  @Override
+  public Board.Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * Returns true if the game is over. The implementation must
+   * describe what it means for the game to be over.
+   *
+   * @return true if the game is over, false otherwise
+   * @throws IllegalStateException if the game has not started
+   */
+  @Override
+  public boolean isGameOver() {
+    boolean gameOver = false;
+    if (!gameState || getEmptySpaces() == 0) {
+      gameOver = true;
+    }
+    return gameOver;
+  }
+
+
+
+}
+
@@ -0,0 +1,129 @@
+package cs3500.queensboard.model;
+
+/**
+ * A Cell that is a live view of one position of a Board's packed grid.
+ * Board hands these out on demand from getCell so that callers of the Cell and CellInterface
+ * API keep working, while the board itself only stores primitive cell data.
+ * Reads always reflect the current state of the board. Writes go through the board, which
+ * keeps its scores in step, drops its undo history as setCell does and publishes a new
+ * snapshot.
+ */
+final class BoardCell extends Cell {
+  private final Board board;
+  private final PackedGrid grid;
+  private final int idx;
+
+  /**
+   * Creates a view of the cell at the given index of the grid.
+   *
+   * @param board board the grid belongs to
+   * @param grid  packed grid that stores the cell
+   * @param idx   row-major index of the cell in the grid
+   */
+  BoardCell(Board board, PackedGrid grid, int idx) {
+    this.board = board;
+    this.grid = grid;
+    this.idx = idx;
+  }
+
+  /**
+   * Returns the score of the cell (value of card placed).
+   */
+  @Override
+  public int getCellScore() {
+    return grid.getCellScore(idx);
+  }
+
+  /**
+   * Returns the player (RED or BLUE) that owns the cell (w/ Pawns or cards).
+   */
+  @Override
+  public Board.Player getOwner() {
+    return grid.getOwner(idx);
+  }
+
+  /**
+   * Returns the number of pawns in a cell.
+   */
+  @Override
+  public int getPawnCount() {
+    return grid.getPawnCount(idx);
+  }
+
+  /**
+   * Returns whether a cell contains a card.
+   */
+  @Override
+  public boolean hasCard() {
+    return grid.hasCard(idx);
+  }
+
+  /**
+   * Returns whether a cell is empty (no card or pawns).
+   */
+  @Override
+  public boolean isEmpty() {
+    return grid.isEmpty(idx);
+  }
+
+  /**
+   * Adds the given amount of pawns to a cell.
+   *
+   * @param card owner must match owner of pawns
+   * @param i    number of pawns being added
+   * @throws IllegalArgumentException if the cell has a card
+   * @throws IllegalArgumentException if the cell already has 3 pawns
+   * @throws IllegalArgumentException if the cell would hold fewer than 0 or more than 15
+   *                                  pawns
+   */
+  @Override
+  public void addPawn(Card card, int i) {
+    if (grid.hasCard(idx)) {
+      throw new IllegalArgumentException("Cannot add pawn to a cell with a card.");
+    }
+    int pawns = grid.getPawnCount(idx);
+    if (pawns >= 3) {
+      board.setCellPawns(idx, pawns, card.getInfluence()); // the owner changes all the same
+      throw new IllegalArgumentException("Cannot add more pawns to current cell");
+    }
+    board.setCellPawns(idx, pawns + i, card.getInfluence());
+  }
+
+  /**
+   * Returns the owner (RED or BLUE) of the pawns in a cell.
+   */
+  @Override
+  public Board.Player getPawnOwner() {
+    return grid.getOwner(idx);
+  }
+
+  /**
+   * Changes the owner of a cell to the other player.
+   */
+  @Override
+  public void changeOwnership() {
+    board.flipCellOwner(idx);
+  }
+
+  /**
+   * Return the card at the cell.
+   *
+   * @throws IllegalArgumentException if the cell does not contain a card
+   */
+  @Override
+  public Card getCard() {
+    if (grid.hasCard(idx)) {
+      return grid.getCard(idx);
+    } else {
+      throw new IllegalArgumentException("Cannot get card from a cell without a card.");
+    }
+  }
+
+  /**
+   * Format the string based on the element in the cell.
+   */
+  @Override
+  public String toString() {
+    return grid.toString(idx);
+  }
+}
@@ -0,0 +1,356 @@
+package cs3500.queensboard.model;
+
+import java.util.List;
+
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.controller.ModelStatus;
+
+/**
+ * An immutable view of a Board at one point of the game.
+ * A Board publishes a new snapshot after every move through a volatile field, so readers on
+ * other threads (rendering, AI search, spectators) get a consistent state with a single read,
+ * without locking the board or deep copying it. Snapshots share structure with each other:
+ * each row of cells is its own immutable object, and only the rows a move changed are rebuilt.
+ * Hands are immutable lists, and decks are immutable views of a list made when play started.
+ */
+public final class BoardSnapshot implements ReadOnlyQueensBoard {
+  private static final ModelEventPublisher NO_EVENTS = closedPublisher();
+
+  private final int height;
+  private final int width;
+  private final Row[] rows;
+  private final Board.Player turn;
+  private final int stateFlags; // pass flags and game state, packed the same way Board does
+  private final int redScore;
+  private final int blueScore;
+  private final Board.Player winner;
+  private final int emptySpaces;
+  private final List<Card> redHand;
+  private final List<Card> blueHand;
+  private final List<Card> redDeck;
+  private final List<Card> blueDeck;
+  private final long stateHash;
+  private final DeckConfig deckConfig;
+  private final boolean shuffle;
+
+  /**
+   * One row of cells. Rows never change once built, so unchanged rows are shared by
+   * consecutive snapshots.
+   */
+  static final class Row {
+    private final Board.Player[] owners;
+    private final int[] pawns;
+    private final Card[] cards;
+    private final int redScore;
+    private final int blueScore;
+    private final int emptySpaces;
+
+    /**
+     * Copies one row out of a packed grid.
+     *
+     * @param grid      the grid holding the cells
+     * @param row       index of the row
+     * @param redScore  red's score for the row
+     * @param blueScore blue's score for the row
+     */
+    Row(PackedGrid grid, int row, int redScore, int blueScore) {
+      int width = grid.getWidth();
+      this.owners = new Board.Player[width];
+      this.pawns = new int[width];
+      this.cards = new Card[width];
+      int empty = 0;
+      for (int col = 0; col < width; col++) {
+        int idx = grid.index(row, col);
+        owners[col] = grid.getOwner(idx);
+        pawns[col] = grid.getPawnCount(idx);
+        cards[col] = grid.getCard(idx);
+        if (grid.isEmpty(idx)) {
+          empty++;
+        }
+      }
+      this.redScore = redScore;
+      this.blueScore = blueScore;
+      this.emptySpaces = empty;
+    }
+  }
+
+  /**
+   * Creates a snapshot. Only called by Board, which hands over rows and lists that are never
+   * modified afterwards.
+   */
+  BoardSnapshot(Row[] rows, int width, Board.Player turn, int stateFlags,
+                int redScore, int blueScore, Board.Player winner,
+                List<Card> redHand, List<Card> blueHand,
+                List<Card> redDeck, List<Card> blueDeck,
+                long stateHash, DeckConfig deckConfig, boolean shuffle) {
+    this.height = rows.length;
+    this.width = width;
+    this.rows = rows;
+    this.turn = turn;
+    this.stateFlags = stateFlags;
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.winner = winner;
+    this.redHand = redHand;
+    this.blueHand = blueHand;
+    this.redDeck = redDeck;
+    this.blueDeck = blueDeck;
+    this.stateHash = stateHash;
+    this.deckConfig = deckConfig;
+    this.shuffle = shuffle;
+    int empty = 0;
+    for (Row row : rows) {
+      empty += row.emptySpaces;
+    }
+    this.emptySpaces = empty;
+  }
+
+  /**
+   * Returns the rows of this snapshot, so the next snapshot can reuse the unchanged ones.
+   */
+  Row[] getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the pass flags and game state packed the same way Board does.
+   */
+  int getStateFlags() {
+    return stateFlags;
+  }
+
+  /**
+   * Returns the remaining deck of the given player, as an immutable list.
+   */
+  List<Card> getDeck(Board.Player player) {
+    return player == Board.Player.RED ? redDeck : blueDeck;
+  }
+
+  /**
+   * Returns the hand of the given player, as an immutable list, even before the game starts.
+   */
+  List<Card> getHandOf(Board.Player player) {
+    return player == Board.Player.RED ? redHand : blueHand;
+  }
+
+  /**
+   * Returns the owner of the cell at the given position, without creating a Cell for it.
+   *
+   * @param row position of the cell
+   * @param col position of the cell
+   * @return the owner of the cell, NONE if it is empty
+   */
+  public Board.Player getOwnerAt(int row, int col) {
+    return rows[row].owners[col];
+  }
+
+  /**
+   * Returns the number of pawns in the cell at the given position, without creating a Cell for
+   * it.
+   *
+   * @param row position of the cell
+   * @param col position of the cell
+   * @return the number of pawns in the cell, 0 if it holds a card
+   */
+  public int getPawnsAt(int row, int col) {
+    return rows[row].pawns[col];
+  }
+
+  private boolean isStarted() {
+    return (stateFlags & 4) != 0;
+  }
+
+  @Override
+  public int getWidth() {
+    return width;
+  }
+
+  @Override
+  public int getHeight() {
+    return height;
+  }
+
+  @Override
+  public Card getCardAt(int row, int col) {
+    if (!isValidCell(row, col)) {
+      throw new IllegalArgumentException("Given row and column is invalid.");
+    }
+    return rows[row].cards[col];
+  }
+
+  @Override
+  public List<Card> getHand() {
+    if (!isStarted()) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return turn == Board.Player.RED ? redHand : blueHand;
+  }
+
+  @Override
+  public int getScore(Board.Player player) {
+    if (player == Board.Player.RED) {
+      return redScore;
+    } else if (player == Board.Player.BLUE) {
+      return blueScore;
+    } else {
+      return 0;
+    }
+  }
+
+  @Override
+  public int getRemainingDeckSize(Board.Player player) {
+    return getDeck(player).size();
+  }
+
+  @Override
+  public Board.Player getWinner() {
+    return winner;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return !isStarted() || emptySpaces == 0;
+  }
+
+  @Override
+  public Board.Player getTurn() {
+    return turn;
+  }
+
+  @Override
+  public int getEmptySpaces() {
+    return emptySpaces;
+  }
+
+  @Override
+  public int getRowScore(int row) {
+    Row r = rows[row];
+    if (r.redScore == r.blueScore) {
+      return 0;
+    } else {
+      return Math.max(r.redScore, r.blueScore);
+    }
+  }
+
+  @Override
+  public int getRedRowScore(int row) {
+    return rows[row].redScore;
+  }
+
+  @Override
+  public int getBlueRowScore(int row) {
+    return rows[row].blueScore;
+  }
+
+  @Override
+  public DeckConfig getDeckConfig() {
+    return deckConfig;
+  }
+
+  @Override
+  public boolean getShuffle() {
+    return shuffle;
+  }
+
+  /**
+   * Returns a new Cell holding the contents of the given position. Changing the returned cell
+   * has no effect on the snapshot.
+   *
+   * @param row position of the cell
+   * @param col position of the cell
+   * @return a copy of the cell at that position, or null if the position is invalid
+   */
+  @Override
+  public Cell getCell(int row, int col) {
+    if (!isValidCell(row, col)) {
+      return null;
+    }
+    Row r = rows[row];
+    if (r.cards[col] != null) {
+      return new Cell(r.cards[col], 0, r.owners[col]);
+    } else if (r.owners[col] == Board.Player.NONE && r.pawns[col] == 0) {
+      return new Cell();
+    }
+    return new Cell(r.pawns[col], r.owners[col]);
+  }
+
+  @Override
+  public Boolean isValidCell(int row, int col) {
+    return row >= 0 && row < height && col >= 0 && col < width;
+  }
+
+  /**
+   * Creates a playable Board in the state of this snapshot. No deck files are read.
+   */
+  @Override
+  public Board copy() {
+    return new Board(this);
+  }
+
+  @Override
+  public List<Card> getRedHand() {
+    if (!isStarted()) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return redHand;
+  }
+
+  @Override
+  public List<Card> getBlueHand() {
+    if (!isStarted()) {
+      throw new IllegalStateException("Game has not started");
+    }
+    return blueHand;
+  }
+
+  @Override
+  public long getStateHash() {
+    return stateHash;
+  }
+
+  /**
+   * Returns this snapshot, which is already immutable.
+   */
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return this;
+  }
+
+  /**
+   * Returns a new cursor over the legal moves of the given player. Finding them means checking
+   * every cell, unlike on a Board, which keeps them indexed.
+   */
+  @Override
+  public LegalMoves legalMoves(Board.Player player) {
+    List<Card> hand = isStarted() && player != Board.Player.NONE ? getHandOf(player) : List.of();
+    return new ScanningLegalMoves(this, player, hand);
+  }
+
+  @Override
+  public boolean hasLegalMove(Board.Player player) {
+    return legalMoves(player).next();
+  }
+
+  /**
+   * Snapshots never change, so the listener is never notified. Listen to the Board instead.
+   */
+  @Override
+  public void addListener(ModelStatus listener) {
+    // nothing to notify
+  }
+
+  /**
+   * Snapshots never change, so their publisher is closed and completes every subscriber at
+   * once. Subscribe to the Board instead.
+   */
+  @Override
+  public ModelEventPublisher getEvents() {
+    return NO_EVENTS;
+  }
+
+  private static ModelEventPublisher closedPublisher() {
+    ModelEventPublisher publisher = new ModelEventPublisher();
+    publisher.close();
+    return publisher;
+  }
+}
@@ -0,0 +1,103 @@
+package cs3500.queensboard.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The process-wide catalog of distinct cards.
+ * Every distinct card (name, cost, value, owner and influence grid, so the red and blue
+ * orientations of a card are different entries) is stored once, as an immutable QueensCard
+ * with a small integer id. Decks loaded from files are built from catalog cards, so every
+ * board in the process shares the same instances, cards compare by id, and a board only has
+ * to store ids to know which card is in a cell.
+ * Looking a card up by id never locks, adding cards is synchronized.
+ */
+public final class CardCatalog {
+  private static final Map<String, QueensCard> BY_CONTENT = new HashMap<>();
+  private static volatile QueensCard[] byId = new QueensCard[64];
+  private static int size = 0;
+
+  private CardCatalog() {
+  }
+
+  /**
+   * Returns the catalog card with the given content, adding it to the catalog if it is new.
+   *
+   * @param name          of the card
+   * @param cost          of pawns the card requires to be placed on the board
+   * @param value         the card adds to the score for the player
+   * @param influence     owner (player RED or BLUE) of the card
+   * @param influenceGrid card's influence on surrounding cells in a 5x5 grid, which is copied
+   * @return the one catalog instance of that card
+   * @throws IllegalArgumentException if the cost or influence grid is invalid
+   */
+  public static QueensCard intern(String name, int cost, int value, Board.Player influence,
+                                  char[][] influenceGrid) {
+    if (influenceGrid == null) {
+      throw new IllegalArgumentException("Influence grid must be 5x5");
+    }
+    String key = key(name, cost, value, influence, influenceGrid);
+    synchronized (BY_CONTENT) {
+      QueensCard card = BY_CONTENT.get(key);
+      if (card == null) {
+        char[][] grid = new char[influenceGrid.length][];
+        for (int i = 0; i < grid.length; i++) {
+          grid[i] = influenceGrid[i].clone();
+        }
+        card = new QueensCard(name, cost, value, influence, grid, size);
+        QueensCard[] cards = byId;
+        if (size == cards.length) {
+          cards = Arrays.copyOf(cards, cards.length * 2);
+        }
+        cards[size] = card;
+        size++;
+        byId = cards; // publish the new card to lock-free readers
+        BY_CONTENT.put(key, card);
+      }
+      return card;
+    }
+  }
+
+  /**
+   * Returns the catalog card equal to the given card, adding it if needed. Catalog cards are
+   * returned as they are.
+   *
+   * @param card the card to look up
+   * @return the one catalog instance of that card
+   */
+  public static QueensCard intern(Card card) {
+    if (card.getId() >= 0) {
+      return get(card.getId());
+    }
+    return intern(card.getName(), card.getCost(), card.getValue(), card.getInfluence(),
+            card.getInfluenceGrid());
+  }
+
+  /**
+   * Returns the card with the given id.
+   *
+   * @param id id of a catalog card
+   * @return the card
+   * @throws IllegalArgumentException if no card has that id
+   */
+  public static QueensCard get(int id) {
+    QueensCard[] cards = byId;
+    if (id < 0 || id >= cards.length || cards[id] == null) {
+      throw new IllegalArgumentException("No card with id " + id);
+    }
+    return cards[id];
+  }
+
+  // Identifies a card by all of its content, rows of the grid included
+  private static String key(String name, int cost, int value, Board.Player influence,
+                            char[][] influenceGrid) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(name).append('\0').append(cost).append('\0').append(value).append('\0')
+            .append(influence);
+    for (char[] row : influenceGrid) {
+      sb.append('\0').append(row);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,299 @@
+package cs3500.queensboard.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An indexed collection of cards, for deck builders and strategies that filter large card
+ * sets.
+ * Cards are added one at a time with a hash-based cap on the copies of each name, so adding n
+ * cards is O(n). Every card gets a position, and the library keeps a bit set of positions for
+ * each cost, each value, each influence mask and each direction of influence. A query is
+ * answered by intersecting bit sets, a few words per 64 cards, instead of testing every card,
+ * e.g. library.query().cost(1).minValue(3).influencing(Direction.FORWARD).list().
+ */
+public final class CardLibrary {
+
+  /**
+   * Directions a card can influence cells in, seen from its owner: forward is towards the
+   * opponent's side (right for red, left for blue) and up is towards the first row.
+   */
+  public enum Direction {
+    FORWARD, BACKWARD, UP, DOWN
+  }
+
+  private static final int GRID_SIZE = 5;
+  private static final int CENTER = GRID_SIZE / 2;
+
+  private final int maxCopies;
+  private final List<Card> cards = new ArrayList<>();
+  private final Map<String, Integer> copies = new HashMap<>();
+  private final BitSet[] byCost = new BitSet[4]; // cost 1 to 3
+  private final TreeMap<Integer, BitSet> byValue = new TreeMap<>();
+  private final Map<Integer, BitSet> byMask = new HashMap<>();
+  private final BitSet[] byDirection = new BitSet[Direction.values().length];
+
+  /**
+   * Creates an empty library that keeps at most two copies of each card name, the same cap
+   * DeckConfig applies to decks.
+   */
+  public CardLibrary() {
+    this(2);
+  }
+
+  /**
+   * Creates an empty library.
+   *
+   * @param maxCopies most copies of a card name kept
+   * @throws IllegalArgumentException if maxCopies is not positive
+   */
+  public CardLibrary(int maxCopies) {
+    if (maxCopies <= 0) {
+      throw new IllegalArgumentException("Library must keep at least one copy of a card");
+    }
+    this.maxCopies = maxCopies;
+    for (int i = 0; i < byCost.length; i++) {
+      byCost[i] = new BitSet();
+    }
+    for (int i = 0; i < byDirection.length; i++) {
+      byDirection[i] = new BitSet();
+    }
+  }
+
+  /**
+   * Adds a card unless the library already has the most copies of its name allowed.
+   *
+   * @param card the card to add
+   * @return true if the card was added
+   * @throws IllegalArgumentException if the card is null or its cost is not 1 to 3
+   */
+  public boolean add(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    if (card.getCost() < 1 || card.getCost() > 3) {
+      throw new IllegalArgumentException("Cost must be between 1 and 3");
+    }
+    int held = copies.getOrDefault(card.getName(), 0);
+    if (held >= maxCopies) {
+      return false;
+    }
+    copies.put(card.getName(), held + 1);
+
+    int pos = cards.size();
+    cards.add(card);
+    byCost[card.getCost()].set(pos);
+    byValue.computeIfAbsent(card.getValue(), v -> new BitSet()).set(pos);
+    int mask = card.getInfluenceKernel().getMask();
+    byMask.computeIfAbsent(mask, m -> new BitSet()).set(pos);
+    for (Direction direction : Direction.values()) {
+      if ((mask & directionMask(direction, card.getInfluence())) != 0) {
+        byDirection[direction.ordinal()].set(pos);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds every card of a collection, capping copies as add does.
+   *
+   * @param cards the cards to add
+   * @return the number of cards added
+   */
+  public int addAll(Iterable<? extends Card> cards) {
+    int added = 0;
+    for (Card card : cards) {
+      if (add(card)) {
+        added++;
+      }
+    }
+    return added;
+  }
+
+  // Grid positions on one side of the center, as a 25-bit influence mask
+  private static int directionMask(Direction direction, Board.Player owner) {
+    int mask = 0;
+    for (int i = 0; i < GRID_SIZE; i++) {
+      for (int j = 0; j < GRID_SIZE; j++) {
+        boolean in;
+        switch (direction) {
+          case FORWARD:
+            in = owner == Board.Player.BLUE ? j < CENTER : j > CENTER;
+            break;
+          case BACKWARD:
+            in = owner == Board.Player.BLUE ? j > CENTER : j < CENTER;
+            break;
+          case UP:
+            in = i < CENTER;
+            break;
+          default:
+            in = i > CENTER;
+            break;
+        }
+        if (in) {
+          mask |= 1 << (i * GRID_SIZE + j);
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the number of cards in the library.
+   */
+  public int size() {
+    return cards.size();
+  }
+
+  /**
+   * Returns the card at a position of the library.
+   *
+   * @param pos position of the card, in the order cards were added
+   * @return the card
+   * @throws IndexOutOfBoundsException if there is no card at that position
+   */
+  public Card get(int pos) {
+    return cards.get(pos);
+  }
+
+  /**
+   * Returns the number of copies of a card name in the library.
+   *
+   * @param name of the card
+   * @return copies held, 0 if there are none
+   */
+  public int copiesOf(String name) {
+    return copies.getOrDefault(name, 0);
+  }
+
+  /**
+   * Starts a query matching every card; each condition added narrows it down.
+   *
+   * @return a new query
+   */
+  public Query query() {
+    return new Query();
+  }
+
+  /**
+   * A set of conditions on the cards of the library. Conditions are applied as they are
+   * added, so a query costs a few bit set operations per condition.
+   */
+  public final class Query {
+    private final BitSet matches = new BitSet();
+
+    private Query() {
+      matches.set(0, cards.size());
+    }
+
+    /**
+     * Keeps the cards with the given cost.
+     *
+     * @param cost 1 to 3
+     * @return this query
+     */
+    public Query cost(int cost) {
+      if (cost < 1 || cost > 3) {
+        matches.clear();
+      } else {
+        matches.and(byCost[cost]);
+      }
+      return this;
+    }
+
+    /**
+     * Keeps the cards worth at least the given value.
+     *
+     * @param value lowest value kept
+     * @return this query
+     */
+    public Query minValue(int value) {
+      return valueRange(byValue.tailMap(value, true));
+    }
+
+    /**
+     * Keeps the cards worth at most the given value.
+     *
+     * @param value highest value kept
+     * @return this query
+     */
+    public Query maxValue(int value) {
+      return valueRange(byValue.headMap(value, true));
+    }
+
+    private Query valueRange(Map<Integer, BitSet> values) {
+      BitSet inRange = new BitSet();
+      for (BitSet set : values.values()) {
+        inRange.or(set);
+      }
+      matches.and(inRange);
+      return this;
+    }
+
+    /**
+     * Keeps the cards that influence at least one cell in the given direction.
+     *
+     * @param direction seen from the card's owner
+     * @return this query
+     */
+    public Query influencing(Direction direction) {
+      matches.and(byDirection[direction.ordinal()]);
+      return this;
+    }
+
+    /**
+     * Keeps the cards that influence every cell of the given mask, and possibly others.
+     *
+     * @param cells 25-bit mask of grid positions, bit i * 5 + j for position i, j
+     * @return this query
+     */
+    public Query influencingAll(int cells) {
+      BitSet covering = new BitSet();
+      for (Map.Entry<Integer, BitSet> entry : byMask.entrySet()) {
+        if ((entry.getKey() & cells) == cells) {
+          covering.or(entry.getValue());
+        }
+      }
+      matches.and(covering);
+      return this;
+    }
+
+    /**
+     * Keeps the cards whose influence grid has exactly the given shape.
+     *
+     * @param mask 25-bit mask of the influenced positions
+     * @return this query
+     */
+    public Query shape(int mask) {
+      BitSet shaped = byMask.get(mask);
+      if (shaped == null) {
+        matches.clear();
+      } else {
+        matches.and(shaped);
+      }
+      return this;
+    }
+
+    /**
+     * Returns the number of cards matching the query.
+     */
+    public int count() {
+      return matches.cardinality();
+    }
+
+    /**
+     * Returns the cards matching the query, in the order they were added.
+     */
+    public List<Card> list() {
+      List<Card> result = new ArrayList<>(matches.cardinality());
+      for (int pos = matches.nextSetBit(0); pos >= 0; pos = matches.nextSetBit(pos + 1)) {
+        result.add(cards.get(pos));
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package cs3500.queensboard.model;
+
+import java.util.List;
+
+/**
+ * Legal moves of a Board, read from the pawn groups its PackedGrid keeps. For each card only
+ * the groups with enough pawns are visited, so no cell is ever checked and rejected.
+ * A Board keeps one of these per player and resets it on every call to legalMoves.
+ */
+final class IndexedLegalMoves implements LegalMoves {
+  private final Board.Player player;
+  private PackedGrid grid;
+  private List<Card> hand;
+  private int cardIdx;
+  private int pawns; // group being visited for the current card
+  private int slot; // next position in that group
+  private int cell;
+
+  /**
+   * Creates a cursor for the given player, which has no moves until reset.
+   *
+   * @param player player whose moves are visited (RED or BLUE)
+   */
+  IndexedLegalMoves(Board.Player player) {
+    this.player = player;
+    reset(null, List.of());
+  }
+
+  /**
+   * Starts visiting the moves of the given hand on the given grid from the beginning.
+   *
+   * @param grid cells of the board
+   * @param hand hand of the player, or an empty list if they have no moves
+   * @return this cursor
+   */
+  IndexedLegalMoves reset(PackedGrid grid, List<Card> hand) {
+    this.grid = grid;
+    this.hand = hand;
+    this.cardIdx = -1;
+    this.pawns = Integer.MAX_VALUE; // forces the first call to next() to start the first card
+    this.slot = 0;
+    return this;
+  }
+
+  @Override
+  public boolean next() {
+    while (true) {
+      while (pawns <= 3) {
+        if (slot < grid.getGroupSize(player, pawns)) {
+          cell = grid.getGroupCell(player, pawns, slot);
+          slot++;
+          return true;
+        }
+        pawns++;
+        slot = 0;
+      }
+      cardIdx++;
+      if (cardIdx >= hand.size()) {
+        cardIdx = hand.size();
+        return false;
+      }
+      // Cells with at least as many pawns as the card costs
+      pawns = Math.max(hand.get(cardIdx).getCost(), 1);
+      slot = 0;
+    }
+  }
+
+  @Override
+  public int getCardIdx() {
+    return cardIdx;
+  }
+
+  @Override
+  public int getRow() {
+    return cell / grid.getWidth();
+  }
+
+  @Override
+  public int getCol() {
+    return cell % grid.getWidth();
+  }
+}
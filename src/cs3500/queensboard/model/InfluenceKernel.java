@@ -0,0 +1,116 @@
+package cs3500.queensboard.model;
+
+/**
+ * A card's influence grid compiled into the list of cells it actually influences.
+ * Each influenced cell is stored as a (row, column) offset relative to the card's position,
+ * and as a bit in a 25-bit mask (bit {@code i * 5 + j} for grid position i, j).
+ * A kernel is compiled once per card and also holds its mirror image across the y-axis,
+ * so the influence of either player's version of a card never has to be recomputed.
+ * Kernels are immutable and safe to share between cards and boards.
+ */
+public final class InfluenceKernel {
+  /**
+   * Width and height of an influence grid.
+   */
+  public static final int GRID_SIZE = 5;
+
+  private static final int HALF = GRID_SIZE / 2;
+
+  private final int mask;
+  private final int[] rowOffsets;
+  private final int[] colOffsets;
+  private InfluenceKernel mirrored;
+
+  private InfluenceKernel(int mask) {
+    this.mask = mask;
+    int size = Integer.bitCount(mask);
+    this.rowOffsets = new int[size];
+    this.colOffsets = new int[size];
+    int n = 0;
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      int bit = Integer.numberOfTrailingZeros(bits);
+      rowOffsets[n] = bit / GRID_SIZE - HALF;
+      colOffsets[n] = bit % GRID_SIZE - HALF;
+      n++;
+    }
+  }
+
+  /**
+   * Compiles the given 5x5 influence grid. Every position that is neither 'X' (no influence)
+   * nor 'C' (the card itself) is influenced, the same rule Board uses when placing a card.
+   * Characters past the fifth column of a row are ignored.
+   *
+   * @param grid influence grid of a card
+   * @return the compiled kernel, already paired with its mirror image
+   * @throws IllegalArgumentException if the grid is not 5x5
+   */
+  public static InfluenceKernel compile(char[][] grid) {
+    if (grid == null || grid.length != GRID_SIZE) {
+      throw new IllegalArgumentException("Influence grid must be 5x5");
+    }
+    int mask = 0;
+    int mirrorMask = 0;
+    for (int i = 0; i < GRID_SIZE; i++) {
+      if (grid[i] == null || grid[i].length < GRID_SIZE) {
+        throw new IllegalArgumentException("Influence grid must be 5x5");
+      }
+      for (int j = 0; j < GRID_SIZE; j++) {
+        if (grid[i][j] != 'X' && grid[i][j] != 'C') {
+          mask |= 1 << (i * GRID_SIZE + j);
+          mirrorMask |= 1 << (i * GRID_SIZE + (GRID_SIZE - 1 - j));
+        }
+      }
+    }
+    InfluenceKernel kernel = new InfluenceKernel(mask);
+    if (mirrorMask == mask) {
+      kernel.mirrored = kernel; // symmetric cards share one kernel
+    } else {
+      kernel.mirrored = new InfluenceKernel(mirrorMask);
+      kernel.mirrored.mirrored = kernel;
+    }
+    return kernel;
+  }
+
+  /**
+   * Returns the number of cells influenced by this kernel.
+   */
+  public int size() {
+    return rowOffsets.length;
+  }
+
+  /**
+   * Returns the row offset, relative to the card, of the i-th influenced cell.
+   *
+   * @param i index of the influenced cell (0 to size() - 1)
+   * @return the row offset (-2 to 2)
+   */
+  public int getRowOffset(int i) {
+    return rowOffsets[i];
+  }
+
+  /**
+   * Returns the column offset, relative to the card, of the i-th influenced cell.
+   *
+   * @param i index of the influenced cell (0 to size() - 1)
+   * @return the column offset (-2 to 2)
+   */
+  public int getColOffset(int i) {
+    return colOffsets[i];
+  }
+
+  /**
+   * Returns the influenced positions as a 25-bit mask, bit {@code i * 5 + j} for grid
+   * position i, j.
+   */
+  public int getMask() {
+    return mask;
+  }
+
+  /**
+   * Returns the kernel mirrored across the y-axis, which is the influence of the same card
+   * played by the other player.
+   */
+  public InfluenceKernel mirrored() {
+    return mirrored;
+  }
+}
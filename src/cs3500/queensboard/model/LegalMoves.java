@@ -0,0 +1,40 @@
+package cs3500.queensboard.model;
+
+/**
+ * A cursor over the legal placements of one player: every (card in hand, cell) pair where
+ * placeCardInPosition would accept the card. Moves are visited card by card, in hand order,
+ * but the cells for each card come in no particular order.
+ * A cursor does not allocate while moving, so strategies can enumerate moves as often as they
+ * like. Use it like this:
+ * <pre>
+ *   LegalMoves moves = board.legalMoves(player);
+ *   while (moves.next()) {
+ *     ... moves.getCardIdx(), moves.getRow(), moves.getCol() ...
+ *   }
+ * </pre>
+ * A cursor is only valid until the board changes.
+ */
+public interface LegalMoves {
+
+  /**
+   * Moves to the next legal move.
+   *
+   * @return true if there is one, false once every move has been visited
+   */
+  boolean next();
+
+  /**
+   * Returns the index in the player's hand of the card of the current move.
+   */
+  int getCardIdx();
+
+  /**
+   * Returns the row of the current move.
+   */
+  int getRow();
+
+  /**
+   * Returns the column of the current move.
+   */
+  int getCol();
+}
@@ -0,0 +1,22 @@
+package cs3500.queensboard.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a board notifying its listeners, which happens on the thread that
+ * made the move. The event lasts as long as the listeners take.
+ */
+@Name("cs3500.queensboard.ListenerDispatch")
+@Label("Listener Dispatch")
+@Category({"QueensBoard", "Model"})
+@Description("A board calling its listeners after a change")
+@StackTrace(false)
+final class ListenerDispatchEvent extends Event {
+  @Label("Listeners")
+  int listeners;
+}
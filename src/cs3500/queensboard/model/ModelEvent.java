@@ -0,0 +1,101 @@
+package cs3500.queensboard.model;
+
+/**
+ * Something that happened to a board, as published to the subscribers of its event stream.
+ * Every event carries the snapshot of the board taken right after the change, so a subscriber
+ * running on another thread, or later, sees the state the event describes without reading
+ * the live board.
+ */
+public final class ModelEvent {
+
+  /**
+   * The kinds of events a board publishes.
+   */
+  public enum Kind {
+    CARD_PLACED,       // a card was placed at (row, col) by player
+    INFLUENCE_APPLIED, // the influence of the card placed at (row, col) was applied
+    PASSED,            // player passed their turn
+    UNDONE,            // the last move was undone, player is the one who made it
+    GAME_OVER          // the game ended, player is the winner (NONE for a tie)
+  }
+
+  private final Kind kind;
+  private final Board.Player player;
+  private final int row;
+  private final int col;
+  private final Card card;
+  private final BoardSnapshot snapshot;
+
+  /**
+   * Creates an event.
+   *
+   * @param kind     what happened
+   * @param player   player the event is about
+   * @param row      row of the placed card, -1 if no card was placed
+   * @param col      column of the placed card, -1 if no card was placed
+   * @param card     the placed card, null if no card was placed
+   * @param snapshot state of the board right after the change
+   */
+  public ModelEvent(Kind kind, Board.Player player, int row, int col, Card card,
+                    BoardSnapshot snapshot) {
+    if (kind == null) {
+      throw new IllegalArgumentException("Event kind cannot be null");
+    }
+    this.kind = kind;
+    this.player = player;
+    this.row = row;
+    this.col = col;
+    this.card = card;
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Returns what happened.
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Returns the player the event is about.
+   */
+  public Board.Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Returns the row of the placed card, -1 if no card was placed.
+   */
+  public int getRow() {
+    return row;
+  }
+
+  /**
+   * Returns the column of the placed card, -1 if no card was placed.
+   */
+  public int getCol() {
+    return col;
+  }
+
+  /**
+   * Returns the placed card, null if no card was placed.
+   */
+  public Card getCard() {
+    return card;
+  }
+
+  /**
+   * Returns the state of the board right after the change.
+   */
+  public BoardSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  @Override
+  public String toString() {
+    if (card != null) {
+      return kind + " " + player + " " + card.getName() + " at (" + row + ", " + col + ")";
+    }
+    return kind + " " + player;
+  }
+}
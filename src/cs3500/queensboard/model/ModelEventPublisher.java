@@ -0,0 +1,240 @@
+package cs3500.queensboard.model;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The stream of events a board publishes as its game is played.
+ * Submitting an event never blocks and never runs subscriber code: each event is added to the
+ * buffer of every subscription, and events are handed to subscribers on an executor, in order,
+ * as they request them. A slow subscriber therefore never stalls the thread making moves.
+ * Each subscription has its own policy for falling behind:
+ * - buffered subscriptions keep up to bufferSize pending events and drop new events when the
+ * buffer is full (counted by getDroppedEvents), which suits loggers given a large enough buffer.
+ * - coalescing subscriptions only keep the newest pending event, so a burst of moves is seen as
+ * one event, which suits views that only need to repaint the latest state.
+ */
+public final class ModelEventPublisher implements Flow.Publisher<ModelEvent>, AutoCloseable {
+  private final Executor executor;
+  private final int bufferSize;
+  private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+  private final LongAdder dropped = new LongAdder();
+  private volatile boolean closed;
+
+  /**
+   * Creates a publisher delivering events on the common fork/join pool, with the default
+   * Flow buffer size.
+   */
+  public ModelEventPublisher() {
+    this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+  }
+
+  /**
+   * Creates a publisher delivering events on the given executor.
+   *
+   * @param executor   runs the delivery of events to subscribers
+   * @param bufferSize pending events kept for a buffered subscription
+   * @throws IllegalArgumentException if the executor is null or the buffer size not positive
+   */
+  public ModelEventPublisher(Executor executor, int bufferSize) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Subscribes with the publisher's buffer size, without coalescing.
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super ModelEvent> subscriber) {
+    subscribe(subscriber, bufferSize, false);
+  }
+
+  /**
+   * Subscribes to the events submitted from now on.
+   *
+   * @param subscriber receives the events
+   * @param bufferSize pending events kept before new ones are dropped, ignored when coalescing
+   * @param coalesce   whether only the newest pending event is kept
+   * @throws NullPointerException     if the subscriber is null
+   * @throws IllegalArgumentException if the buffer size is not positive
+   */
+  public void subscribe(Flow.Subscriber<? super ModelEvent> subscriber, int bufferSize,
+                        boolean coalesce) {
+    Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    EventSubscription subscription =
+            new EventSubscription(subscriber, coalesce ? 1 : bufferSize, coalesce);
+    subscriber.onSubscribe(subscription);
+    subscriptions.add(subscription);
+    if (closed) {
+      subscription.complete();
+    }
+  }
+
+  /**
+   * Returns whether anything is subscribed, so events need not be built when nothing would
+   * receive them.
+   */
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  /**
+   * Adds an event to every subscription, without waiting for any subscriber.
+   *
+   * @param event the event to publish
+   * @throws IllegalStateException if the publisher is closed
+   */
+  public void submit(ModelEvent event) {
+    if (closed) {
+      throw new IllegalStateException("Publisher is closed");
+    }
+    for (EventSubscription subscription : subscriptions) {
+      subscription.offer(event);
+    }
+  }
+
+  /**
+   * Returns the number of events dropped so far because a buffered subscription was full.
+   */
+  public long getDroppedEvents() {
+    return dropped.sum();
+  }
+
+  /**
+   * Completes every subscription once it has delivered its pending events. Nothing more can
+   * be submitted.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (EventSubscription subscription : subscriptions) {
+      subscription.complete();
+    }
+  }
+
+  // One subscriber's buffer, demand and delivery loop
+  private final class EventSubscription implements Flow.Subscription, Runnable {
+    private final Flow.Subscriber<? super ModelEvent> subscriber;
+    private final int capacity;
+    private final boolean coalesce;
+    private final ArrayDeque<ModelEvent> pending = new ArrayDeque<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger work = new AtomicInteger(); // pending runs of the loop
+    private volatile boolean completing;
+    private volatile boolean cancelled;
+
+    EventSubscription(Flow.Subscriber<? super ModelEvent> subscriber, int capacity,
+                      boolean coalesce) {
+      this.subscriber = subscriber;
+      this.capacity = capacity;
+      this.coalesce = coalesce;
+    }
+
+    void offer(ModelEvent event) {
+      synchronized (pending) {
+        if (coalesce) {
+          pending.clear(); // the newest event replaces the ones not yet delivered
+        } else if (pending.size() == capacity) {
+          dropped.increment();
+          return;
+        }
+        pending.addLast(event);
+      }
+      schedule();
+    }
+
+    void complete() {
+      completing = true;
+      schedule();
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        cancel();
+        subscriber.onError(new IllegalArgumentException("Request must be positive"));
+        return;
+      }
+      demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n); // saturates when unbounded
+      schedule();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+      synchronized (pending) {
+        pending.clear();
+      }
+    }
+
+    private void schedule() {
+      if (work.getAndIncrement() == 0) {
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          cancel();
+          subscriber.onError(e);
+        }
+      }
+    }
+
+    // Delivers what has been requested, then completes once closed and drained
+    @Override
+    public void run() {
+      int missed = 1;
+      while (true) {
+        while (!cancelled && demand.get() > 0) {
+          ModelEvent event;
+          synchronized (pending) {
+            event = pending.pollFirst();
+          }
+          if (event == null) {
+            break;
+          }
+          if (demand.get() != Long.MAX_VALUE) {
+            demand.decrementAndGet();
+          }
+          try {
+            subscriber.onNext(event);
+          } catch (Throwable t) {
+            cancel();
+            subscriber.onError(t);
+          }
+        }
+        if (completing && !cancelled) {
+          boolean drained;
+          synchronized (pending) {
+            drained = pending.isEmpty();
+          }
+          if (drained) {
+            cancel();
+            subscriber.onComplete();
+          }
+        }
+        missed = work.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package cs3500.queensboard.model;
+
+import java.util.Arrays;
+
+/**
+ * A stack of ints recording what each move changed on a Board, so the move can be undone
+ * in place. A move pushes the old packed value of every cell it changes, followed by a
+ * short trailer describing the rest of the move (see Board for the layout).
+ * Everything is stored as primitives, so recording a move never allocates once the stack
+ * has grown to the depth being searched.
+ */
+final class MoveJournal {
+  private int[] data;
+  private int size;
+
+  /**
+   * Creates an empty journal.
+   */
+  MoveJournal() {
+    this.data = new int[64];
+    this.size = 0;
+  }
+
+  /**
+   * Pushes a value onto the journal.
+   */
+  void push(int value) {
+    if (size == data.length) {
+      data = Arrays.copyOf(data, data.length * 2);
+    }
+    data[size] = value;
+    size++;
+  }
+
+  /**
+   * Removes and returns the last value pushed onto the journal.
+   *
+   * @throws IllegalStateException if the journal is empty
+   */
+  int pop() {
+    if (size == 0) {
+      throw new IllegalStateException("No moves to undo.");
+    }
+    size--;
+    return data[size];
+  }
+
+  /**
+   * Returns whether there is nothing recorded in the journal.
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Forgets every recorded move.
+   */
+  void clear() {
+    size = 0;
+  }
+}
@@ -0,0 +1,46 @@
+package cs3500.queensboard.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a card placed on a board, or a turn passed. The event lasts for
+ * the whole move, listeners excluded.
+ * Like every JFR event, it costs next to nothing unless a recording has it enabled.
+ */
+@Name("cs3500.queensboard.MovePlaced")
+@Label("Move Placed")
+@Category({"QueensBoard", "Model"})
+@Description("A card placed on the board, or a turn passed")
+@StackTrace(false)
+final class MovePlacedEvent extends Event {
+  @Label("Player")
+  String player;
+
+  @Label("Pass")
+  boolean pass;
+
+  @Label("Card")
+  String card;
+
+  @Label("Row")
+  int row;
+
+  @Label("Column")
+  int col;
+
+  @Label("Cells Influenced")
+  @Description("Cells the card's influence changed")
+  int cellsInfluenced;
+
+  @Label("Ownership Flips")
+  @Description("Cells whose pawns changed owner")
+  int ownershipFlips;
+
+  @Label("Game Over")
+  boolean gameOver;
+}
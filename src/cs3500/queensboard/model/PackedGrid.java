@@ -0,0 +1,336 @@
+package cs3500.queensboard.model;
+
+import java.util.Arrays;
+
+/**
+ * Primitive storage for the cells of a Board.
+ * Every cell is packed into a single int instead of a separate Cell object:
+ * - bits 0-1 hold the owner (ordinal of Board.Player),
+ * - bits 2-5 hold the pawn count,
+ * - bits 6 and up hold the CardCatalog id of the placed card plus one (0 means no card).
+ * Cards are looked up in the process-wide catalog, so the grid holds no object references at
+ * all. Cells are addressed by their row-major index (row * width + col).
+ * Every write goes through write(), which also keeps the Zobrist hash of the cells up to date,
+ * so the hash costs O(1) per changed cell no matter who changes it. It also marks the row of
+ * the cell as changed, so a Board only has to copy those rows into its next snapshot.
+ * Finally it keeps an index of the cells where a card could be placed: for each player, the
+ * cells holding that player's pawns and no card, grouped by pawn count (1, 2, or 3 and up),
+ * along with a count of the empty cells and of the cells each player owns. Each group is a
+ * set of cell indices that supports adding and removing in O(1), by swapping the removed cell
+ * with the last one.
+ */
+final class PackedGrid {
+  private static final int OWNER_MASK = 0x3;
+  private static final int PAWN_SHIFT = 2;
+  private static final int PAWN_MASK = 0xF;
+  private static final int CARD_SHIFT = 6;
+  private static final Board.Player[] PLAYERS = Board.Player.values();
+  private static final int NONE = Board.Player.NONE.ordinal();
+  private static final int MAX_GROUP_PAWNS = 3; // cells with more pawns share the last group
+  private static final int GROUPS = 2 * MAX_GROUP_PAWNS;
+
+  private final int height;
+  private final int width;
+  private final int[] cells;
+  private long hash; // XOR of the Zobrist keys of every cell
+  private final boolean[] dirtyRows; // rows changed since clearDirtyRows
+  private final int[][] groups; // cell indices per (player, pawn count) group, see group()
+  private final int[] groupSizes;
+  private final int[] groupOf; // group of each cell, or -1 if it is in none
+  private final int[] slotOf; // position of each cell within its group
+  private int emptyCount;
+  private final int[] ownedCounts; // cells owned, by owner ordinal
+
+  /**
+   * Creates a grid of the given size where every cell is empty.
+   *
+   * @param height number of rows
+   * @param width  number of columns
+   */
+  PackedGrid(int height, int width) {
+    this.height = height;
+    this.width = width;
+    this.cells = new int[height * width];
+    Arrays.fill(this.cells, NONE);
+    this.hash = 0; // empty cells have a key of 0
+    this.dirtyRows = new boolean[height];
+    Arrays.fill(this.dirtyRows, true);
+    this.groups = new int[GROUPS][height * width];
+    this.groupSizes = new int[GROUPS];
+    this.groupOf = new int[height * width];
+    Arrays.fill(this.groupOf, -1);
+    this.slotOf = new int[height * width];
+    this.emptyCount = height * width;
+    this.ownedCounts = new int[PLAYERS.length];
+    this.ownedCounts[NONE] = height * width;
+  }
+
+  /**
+   * Copy constructor. Only primitive arrays are copied.
+   *
+   * @param other the grid to copy
+   */
+  PackedGrid(PackedGrid other) {
+    this.height = other.height;
+    this.width = other.width;
+    this.cells = other.cells.clone();
+    this.hash = other.hash;
+    this.dirtyRows = other.dirtyRows.clone();
+    this.groups = new int[GROUPS][];
+    for (int i = 0; i < GROUPS; i++) {
+      this.groups[i] = other.groups[i].clone();
+    }
+    this.groupSizes = other.groupSizes.clone();
+    this.groupOf = other.groupOf.clone();
+    this.slotOf = other.slotOf.clone();
+    this.emptyCount = other.emptyCount;
+    this.ownedCounts = other.ownedCounts.clone();
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int size() {
+    return cells.length;
+  }
+
+  /**
+   * Returns the row-major index of the given position.
+   */
+  int index(int row, int col) {
+    return row * width + col;
+  }
+
+  /**
+   * Returns the owner of the cell at the given index.
+   */
+  Board.Player getOwner(int idx) {
+    return PLAYERS[cells[idx] & OWNER_MASK];
+  }
+
+  /**
+   * Returns the number of pawns in the cell at the given index.
+   */
+  int getPawnCount(int idx) {
+    return (cells[idx] >>> PAWN_SHIFT) & PAWN_MASK;
+  }
+
+  /**
+   * Returns the catalog id of the card in the cell at the given index, or -1 if there is none.
+   */
+  int getCardId(int idx) {
+    return (cells[idx] >>> CARD_SHIFT) - 1;
+  }
+
+  /**
+   * Returns whether the cell at the given index contains a card.
+   */
+  boolean hasCard(int idx) {
+    return (cells[idx] >>> CARD_SHIFT) != 0;
+  }
+
+  /**
+   * Returns whether the cell at the given index has no card, no pawns and no owner.
+   */
+  boolean isEmpty(int idx) {
+    return cells[idx] == NONE;
+  }
+
+  /**
+   * Returns the card in the cell at the given index, or null if there is none.
+   */
+  Card getCard(int idx) {
+    int id = getCardId(idx);
+    return id < 0 ? null : CardCatalog.get(id);
+  }
+
+  /**
+   * Returns the score of the cell at the given index (value of the placed card, else 0).
+   */
+  int getCellScore(int idx) {
+    int id = getCardId(idx);
+    return id < 0 ? 0 : CardCatalog.get(id).getValue();
+  }
+
+  /**
+   * Sets the cell at the given index to hold pawns (and no card).
+   *
+   * @param idx   index of the cell
+   * @param count number of pawns
+   * @param owner owner of the pawns
+   * @throws IllegalArgumentException if the count does not fit in a cell, 0 to 15
+   */
+  void setPawns(int idx, int count, Board.Player owner) {
+    if (count < 0 || count > PAWN_MASK) {
+      throw new IllegalArgumentException("invalid pawn amount");
+    }
+    write(idx, (count << PAWN_SHIFT) | owner.ordinal());
+  }
+
+  /**
+   * Places a card in the cell at the given index, removing any pawns. Cards that are not from
+   * the CardCatalog are added to it, so the cell holds the equal catalog card.
+   *
+   * @param idx   index of the cell
+   * @param card  card being placed
+   * @param owner owner of the card
+   */
+  void setCard(int idx, Card card, Board.Player owner) {
+    int id = card.getId() >= 0 ? card.getId() : CardCatalog.intern(card).getId();
+    write(idx, ((id + 1) << CARD_SHIFT) | owner.ordinal());
+  }
+
+  /**
+   * Returns the packed value of the cell at the given index, so it can be restored later.
+   */
+  int getRaw(int idx) {
+    return cells[idx];
+  }
+
+  /**
+   * Restores the cell at the given index to a packed value returned by getRaw.
+   */
+  void setRaw(int idx, int value) {
+    write(idx, value);
+  }
+
+  /**
+   * Changes the owner of the cell at the given index to the other player.
+   * Cells without an owner are left unchanged.
+   */
+  void flipOwner(int idx) {
+    int owner = cells[idx] & OWNER_MASK;
+    if (owner != NONE) {
+      write(idx, (cells[idx] & ~OWNER_MASK) | (owner ^ 1));
+    }
+  }
+
+  /**
+   * Returns the Zobrist hash of the contents of every cell.
+   */
+  long getHash() {
+    return hash;
+  }
+
+  /**
+   * Returns whether a cell in the given row has changed since the last clearDirtyRows.
+   */
+  boolean isRowDirty(int row) {
+    return dirtyRows[row];
+  }
+
+  /**
+   * Marks every row as unchanged.
+   */
+  void clearDirtyRows() {
+    Arrays.fill(dirtyRows, false);
+  }
+
+  /**
+   * Returns the number of cells with no card, no pawns and no owner.
+   */
+  int getEmptyCount() {
+    return emptyCount;
+  }
+
+  /**
+   * Returns the number of cells owned by the given player, with pawns or a card.
+   */
+  int getOwnedCount(Board.Player player) {
+    return ownedCounts[player.ordinal()];
+  }
+
+  /**
+   * Returns the number of cells holding the given player's pawns and no card, with the given
+   * number of pawns (or more, for the last group).
+   *
+   * @param player owner of the pawns (RED or BLUE)
+   * @param pawns  number of pawns, 1 to 3
+   */
+  int getGroupSize(Board.Player player, int pawns) {
+    return groupSizes[player.ordinal() * MAX_GROUP_PAWNS + pawns - 1];
+  }
+
+  /**
+   * Returns the index of the i-th cell of a group, in no particular order.
+   *
+   * @param player owner of the pawns (RED or BLUE)
+   * @param pawns  number of pawns, 1 to 3
+   * @param i      position in the group (0 to getGroupSize - 1)
+   */
+  int getGroupCell(Board.Player player, int pawns, int i) {
+    return groups[player.ordinal() * MAX_GROUP_PAWNS + pawns - 1][i];
+  }
+
+  // Stores a packed value in a cell, swapping the cell's old key in the hash for its new one
+  // and moving the cell to the group matching its new contents
+  private void write(int idx, int value) {
+    int old = cells[idx];
+    hash ^= key(idx, old) ^ key(idx, value);
+    cells[idx] = value;
+    dirtyRows[idx / width] = true;
+
+    if (old == NONE) {
+      emptyCount--;
+    }
+    if (value == NONE) {
+      emptyCount++;
+    }
+    ownedCounts[old & OWNER_MASK]--;
+    ownedCounts[value & OWNER_MASK]++;
+    int group = group(value);
+    if (group != groupOf[idx]) {
+      if (groupOf[idx] >= 0) {
+        // Fill the hole with the last cell of the group
+        int from = groupOf[idx];
+        int last = groups[from][--groupSizes[from]];
+        groups[from][slotOf[idx]] = last;
+        slotOf[last] = slotOf[idx];
+      }
+      if (group >= 0) {
+        slotOf[idx] = groupSizes[group];
+        groups[group][groupSizes[group]++] = idx;
+      }
+      groupOf[idx] = group;
+    }
+  }
+
+  // Group of a packed cell value: player * 3 + (pawns - 1), or -1 for cells with a card,
+  // no pawns or no owner
+  private static int group(int value) {
+    int owner = value & OWNER_MASK;
+    int pawns = (value >>> PAWN_SHIFT) & PAWN_MASK;
+    if ((value >>> CARD_SHIFT) != 0 || owner == NONE || pawns == 0) {
+      return -1;
+    }
+    return owner * MAX_GROUP_PAWNS + Math.min(pawns, MAX_GROUP_PAWNS) - 1;
+  }
+
+  // Zobrist key of a packed cell value at the given index
+  private long key(int idx, int value) {
+    int owner = value & OWNER_MASK;
+    int id = (value >>> CARD_SHIFT) - 1;
+    if (id >= 0) {
+      return Zobrist.cardCell(idx, Zobrist.card(CardCatalog.get(id)), owner);
+    }
+    return Zobrist.pawnCell(idx, (value >>> PAWN_SHIFT) & PAWN_MASK, owner);
+  }
+
+  /**
+   * Format the string of the cell at the given index the same way Cell does.
+   */
+  String toString(int idx) {
+    if (isEmpty(idx)) {
+      return "_";
+    } else if (hasCard(idx)) {
+      return getCard(idx).toString();
+    } else {
+      return String.valueOf(getPawnCount(idx));
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package cs3500.queensboard.model;
+
+import java.util.List;
+
+/**
+ * Legal moves of a BoardSnapshot, found by checking every cell for every card in row-major
+ * order. Snapshots are shared between threads, so each call to legalMoves gets its own cursor.
+ */
+final class ScanningLegalMoves implements LegalMoves {
+  private final BoardSnapshot snapshot;
+  private final Board.Player player;
+  private final List<Card> hand;
+  private int cardIdx;
+  private int cell; // row-major index of the current move
+
+  /**
+   * Creates a cursor over the moves of a player on a snapshot.
+   *
+   * @param snapshot snapshot to read
+   * @param player   player whose moves are visited (RED or BLUE)
+   * @param hand     hand of the player, or an empty list if they have no moves
+   */
+  ScanningLegalMoves(BoardSnapshot snapshot, Board.Player player, List<Card> hand) {
+    this.snapshot = snapshot;
+    this.player = player;
+    this.hand = hand;
+    this.cardIdx = 0;
+    this.cell = -1;
+  }
+
+  @Override
+  public boolean next() {
+    int width = snapshot.getWidth();
+    int cells = width * snapshot.getHeight();
+    while (cardIdx < hand.size()) {
+      int cost = hand.get(cardIdx).getCost();
+      for (cell++; cell < cells; cell++) {
+        int row = cell / width;
+        int col = cell % width;
+        if (snapshot.getOwnerAt(row, col) == player && snapshot.getCardAt(row, col) == null
+                && snapshot.getPawnsAt(row, col) >= Math.max(cost, 1)) {
+          return true;
+        }
+      }
+      cardIdx++;
+      cell = -1;
+    }
+    return false;
+  }
+
+  @Override
+  public int getCardIdx() {
+    return cardIdx;
+  }
+
+  @Override
+  public int getRow() {
+    return cell / snapshot.getWidth();
+  }
+
+  @Override
+  public int getCol() {
+    return cell % snapshot.getWidth();
+  }
+}
@@ -0,0 +1,107 @@
+package cs3500.queensboard.model;
+
+/**
+ * Keys for the 64-bit Zobrist hash of a Board.
+ * Instead of tables of random numbers, every key is produced by running a distinct input
+ * through the SplitMix64 finalizer, which gives well spread, independent looking 64-bit values
+ * for any board size. Keys only depend on what they describe (a position and its contents,
+ * a card's name, cost, value, owner and influence), so the same game state hashes to the same
+ * value in every run and every process.
+ */
+final class Zobrist {
+  private static final long CELL_SALT = 0x6A09E667F3BCC909L;
+  private static final long CARD_SALT = 0xBB67AE8584CAA73BL;
+  private static final long RED_HAND_SALT = 0x3C6EF372FE94F82BL;
+  private static final long BLUE_HAND_SALT = 0xA54FF53A5F1D36F1L;
+  private static final long STATE_SALT = 0x510E527FADE682D1L;
+  private static final long RED_DECK_SALT = 0x9B05688C2B3E6C1FL;
+  private static final long BLUE_DECK_SALT = 0x1F83D9ABFB41BD6BL;
+
+  private Zobrist() {
+  }
+
+  /**
+   * SplitMix64 finalizer, maps any 64-bit input to a well mixed 64-bit output.
+   */
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns the key of a cell holding only pawns (or nothing, which hashes to 0).
+   *
+   * @param idx    row-major index of the cell
+   * @param pawns  number of pawns
+   * @param owner  ordinal of the owner
+   */
+  static long pawnCell(int idx, int pawns, int owner) {
+    if (pawns == 0 && owner == Board.Player.NONE.ordinal()) {
+      return 0;
+    }
+    return mix(CELL_SALT + ((long) idx << 8) + (pawns << 2) + owner);
+  }
+
+  /**
+   * Returns the key of a cell holding a card.
+   *
+   * @param idx     row-major index of the cell
+   * @param cardKey key of the card, from card()
+   * @param owner   ordinal of the owner
+   */
+  static long cardCell(int idx, long cardKey, int owner) {
+    return mix(cardKey ^ mix(CELL_SALT - ((long) idx << 8) - owner));
+  }
+
+  /**
+   * Returns the key identifying a card by its name, cost, value, owner and influence.
+   * QueensCards compute their key once, other cards have it computed on every call.
+   */
+  static long card(Card card) {
+    if (card instanceof QueensCard) {
+      return ((QueensCard) card).getStateKey();
+    }
+    return computeCard(card);
+  }
+
+  /**
+   * Computes the key of a card from its name, cost, value, owner and influence.
+   */
+  static long computeCard(Card card) {
+    long h = CARD_SALT;
+    String name = card.getName() == null ? "" : card.getName();
+    for (int i = 0; i < name.length(); i++) {
+      h = mix(h + name.charAt(i));
+    }
+    h = mix(h + card.getCost());
+    h = mix(h + card.getValue());
+    h = mix(h + (card.getInfluence() == null ? -1 : card.getInfluence().ordinal()));
+    return mix(h + card.getInfluenceKernel().getMask());
+  }
+
+  /**
+   * Returns the amount a card in a player's hand adds to that hand's hash. Hands are hashed
+   * by adding these up, so duplicate cards count twice instead of cancelling out.
+   */
+  static long handCard(long cardKey, Board.Player player) {
+    return mix(cardKey ^ (player == Board.Player.RED ? RED_HAND_SALT : BLUE_HAND_SALT));
+  }
+
+  /**
+   * Returns the amount a card left in a player's deck adds to the hash of the decks. Its depth
+   * is counted from the bottom of the deck, so drawing from the top leaves the keys of the
+   * other cards as they were.
+   */
+  static long deckCard(long cardKey, Board.Player player, int depth) {
+    return mix(cardKey ^ mix((player == Board.Player.RED ? RED_DECK_SALT : BLUE_DECK_SALT)
+            + depth));
+  }
+
+  /**
+   * Returns the key of the side to move together with the pass and game state flags.
+   */
+  static long state(int turn, int flags) {
+    return mix(STATE_SALT + (turn << 4) + flags);
+  }
+}
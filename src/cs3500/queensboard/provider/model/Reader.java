@@ -0,0 +1,41 @@
+package cs3500.queensboard.provider.model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.queensboard.controller.DeckFormatException;
+import cs3500.queensboard.controller.DeckParser;
+
+/**
+ * Utility class for reading and loading deck configurations from a file.
+ */
+public class Reader {
+  /**
+   * This method will read a deck configuration file and then return a list of objects
+   * that are of type CardGame. These represent the player's deck.
+   *
+   * @param file  configuration file's path.
+   * @param owner player that owns the deck. Can be Red or Blue player.
+   * @return list of CardGame objects.
+   * @throws IOException if the current file is not able to be read properly.
+   */
+  public static List<Card> readDeck(String file, Player owner) throws IOException {
+    List<Card> deck = new ArrayList<>();
+    try {
+      DeckParser.parse(Path.of(file), (name, cost, value, grid, line) -> {
+        //The parser reuses the grid for the next card, so each card gets its own copy
+        char[][] influenceGrid = new char[grid.length][];
+        for (int k = 0; k < grid.length; k++) {
+          influenceGrid[k] = grid[k].clone();
+        }
+        deck.add(new CardGame(name, cost, value, influenceGrid, owner));
+      });
+    } catch (DeckFormatException e) {
+      //Card not correctly formatted, the message says where
+      throw new IOException("Invalid card format: " + e.getMessage(), e);
+    }
+    return deck;
+  }
+}
@@ -0,0 +1,280 @@
+package cs3500.queensboard.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * AlphaBetaStrategy is the minimax strategy: it searches the moves of both players several
+ * plies ahead with alpha-beta pruning, and chooses the move leaving the best score margin
+ * the opponent cannot avoid.
+ * The search deepens one ply at a time until the time budget runs out or the maximum depth
+ * is reached, and plays the best move of the deepest search that finished. Moves are tried in
+ * order: first the move of the previous search's principal variation, then placements of
+ * the most valuable cards, in the most contested rows (smallest difference between the row
+ * scores), and passing last.
+ * The search runs on a single copy of the board, making and undoing moves on it, so no
+ * board is copied per move. Results are kept in a TranspositionTable under the board's
+ * position hash, which covers the cards left to draw as well as the state hash, so positions
+ * reached again through other orders of moves are not searched again, the best move stored
+ * for a position is tried first, and games dealt differently never share results. A table
+ * can be shared by several strategies searching at once. After each decision the principal
+ * variation, the line of play both players are expected to follow, can be read with
+ * getPrincipalVariation.
+ */
+public class AlphaBetaStrategy implements Strategy {
+  private static final int WIN = 1_000_000; // added to the margin of a finished game
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int PASS = SearchMoves.PASS;
+  private static final int NO_MOVE = SearchMoves.NO_MOVE;
+  private static final int CHECK_INTERVAL = 1024; // nodes searched between clock checks
+
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final TranspositionTable table;
+  private volatile List<Move> principalVariation = List.of();
+  private volatile int completedDepth;
+
+  /**
+   * Creates the strategy with a budget of 50 milliseconds per move, searching at most 32
+   * plies deep, with a table of its own.
+   */
+  public AlphaBetaStrategy() {
+    this(50, 32);
+  }
+
+  /**
+   * Creates the strategy with a table of its own, of 2^16 entries.
+   *
+   * @param budgetMillis time to search each move for, in milliseconds
+   * @param maxDepth     most plies to search
+   * @throws IllegalArgumentException if the budget or depth is not positive
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth) {
+    this(budgetMillis, maxDepth, new TranspositionTable(1 << 16));
+  }
+
+  /**
+   * Creates the strategy.
+   *
+   * @param budgetMillis time to search each move for, in milliseconds
+   * @param maxDepth     most plies to search, at most 127
+   * @param table        table to keep search results in, which may be shared
+   * @throws IllegalArgumentException if the budget or depth is not positive, the depth is
+   *                                  over 127, or the table is null
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, TranspositionTable table) {
+    if (budgetMillis <= 0 || maxDepth <= 0 || maxDepth > 127) {
+      throw new IllegalArgumentException("Budget and depth must be positive, and depth "
+              + "at most 127");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Table cannot be null");
+    }
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.table = table;
+  }
+
+  /**
+   * Chooses the best move found by the deepest search finished within the time budget. The
+   * first ply is always searched, however long it takes.
+   *
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    table.newSearch();
+    Search search = new Search(board.copy(), System.nanoTime() + budgetNanos);
+    int[] line = search.run();
+
+    // Replay the line on a copy to turn hand indices into cards
+    List<Move> moves = new ArrayList<>();
+    Board replay = board.copy();
+    for (int move : line) {
+      moves.add(SearchMoves.toMove(replay, move));
+      SearchMoves.play(replay, move);
+    }
+    principalVariation = List.copyOf(moves);
+    completedDepth = search.completed;
+    Move best = moves.isEmpty() ? new Move(true) : moves.get(0);
+    return event.decided(this, best, (int) Math.min(search.nodes, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Returns the principal variation of the last decision: the move chosen followed by the
+   * replies both players are expected to make.
+   *
+   * @return the moves of the expected line of play
+   */
+  public List<Move> getPrincipalVariation() {
+    return principalVariation;
+  }
+
+  /**
+   * Returns the table search results are kept in.
+   */
+  public TranspositionTable getTable() {
+    return table;
+  }
+
+  /**
+   * Returns the depth, in plies, of the deepest search finished for the last decision.
+   */
+  public int getCompletedDepth() {
+    return completedDepth;
+  }
+
+  /**
+   * One decision's search, on moves encoded by SearchMoves.
+   */
+  private final class Search {
+    private final Board board;
+    private final long deadline;
+    private final SearchMoves moves = new SearchMoves(maxDepth);
+    private final int[][] pv = new int[maxDepth + 1][maxDepth]; // best line from each ply
+    private final int[] pvLength = new int[maxDepth + 1];
+    private int[] previousPv = new int[0];
+    private boolean timed; // whether the clock may stop the current search
+    private boolean reachedDepth; // whether the current search stopped at its depth anywhere
+    private long nodes;
+    private int completed;
+
+    Search(Board board, long deadline) {
+      this.board = board;
+      this.deadline = deadline;
+    }
+
+    // Deepens until out of time or depth, returning the principal variation of the deepest
+    // finished search
+    int[] run() {
+      int[] best = new int[0];
+      for (int depth = 1; depth <= maxDepth; depth++) {
+        timed = depth > 1;
+        reachedDepth = false;
+        try {
+          negamax(depth, 0, -INFINITY, INFINITY);
+        } catch (SearchMoves.OutOfTime e) {
+          break; // every move made was undone on the way out
+        }
+        best = Arrays.copyOf(pv[0], pvLength[0]);
+        previousPv = best;
+        completed = depth;
+        if (!reachedDepth) {
+          break; // every line ends the game, searching deeper finds nothing new
+        }
+      }
+      return best;
+    }
+
+    // Score of the position for the player to move, searching depth plies ahead
+    private int negamax(int depth, int ply, int alpha, int beta) {
+      nodes++;
+      if (timed && nodes % CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+        throw SearchMoves.OutOfTime.INSTANCE;
+      }
+      pvLength[ply] = 0;
+      if (board.isGameOver()) {
+        return evaluate(true);
+      }
+      if (depth == 0) {
+        reachedDepth = true;
+        return evaluate(false);
+      }
+
+      // A result for this position from another order of moves may settle it. The root is
+      // always searched, so it has a principal variation.
+      long key = board.getPositionHash();
+      long entry = table.probe(key);
+      int stored = entry == 0 ? NO_MOVE : TranspositionTable.move(entry);
+      if (ply > 0 && entry != 0 && TranspositionTable.depth(entry) >= depth) {
+        int score = TranspositionTable.score(entry);
+        int bound = TranspositionTable.bound(entry);
+        if (bound == TranspositionTable.EXACT
+                || bound == TranspositionTable.LOWER && score >= beta
+                || bound == TranspositionTable.UPPER && score <= alpha) {
+          reachedDepth = true; // the stored search may have stopped at its depth
+          return score;
+        }
+      }
+
+      int alphaBefore = alpha;
+      int count = generate(ply, stored);
+      int best = -INFINITY;
+      int bestMove = NO_MOVE;
+      for (int i = 0; i < count; i++) {
+        int move = moves.get(ply, i);
+        SearchMoves.play(board, move);
+        int score;
+        try {
+          score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+        } finally {
+          board.undo();
+        }
+        if (score > best) {
+          best = score;
+          bestMove = move;
+          // This move followed by the best line after it
+          pv[ply][0] = move;
+          System.arraycopy(pv[ply + 1], 0, pv[ply], 1, pvLength[ply + 1]);
+          pvLength[ply] = pvLength[ply + 1] + 1;
+        }
+        alpha = Math.max(alpha, score);
+        if (alpha >= beta) {
+          break;
+        }
+      }
+      int bound = best <= alphaBefore ? TranspositionTable.UPPER
+              : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+      table.store(key, depth, bound, best, bestMove);
+      return best;
+    }
+
+    // Score margin of the player to move, far beyond any margin if the game is over
+    private int evaluate(boolean gameOver) {
+      Board.Player player = board.getTurn();
+      Board.Player opponent = SearchMoves.opponent(player);
+      int margin = board.getScore(player) - board.getScore(opponent);
+      if (!gameOver || margin == 0) {
+        return margin;
+      }
+      return margin > 0 ? WIN + margin : margin - WIN;
+    }
+
+    // Fills the list of the ply with the legal moves in the order they should be tried,
+    // returning how many there are. The move of the previous principal variation comes first,
+    // then the stored best move of the position.
+    private int generate(int ply, int stored) {
+      Board.Player player = board.getTurn();
+      Board.Player opponent = SearchMoves.opponent(player);
+      List<Card> hand = board.getHand();
+      int expected = ply < previousPv.length ? previousPv[ply] : NO_MOVE;
+      int count = 0;
+      LegalMoves legal = board.legalMoves(player);
+      while (legal.next()) {
+        int row = legal.getRow();
+        int move = SearchMoves.encode(row, legal.getCol(), legal.getCardIdx(),
+                board.getWidth());
+        int contest = Math.min(Math.abs(rowScore(player, row) - rowScore(opponent, row)), 15);
+        int key = move == expected ? Integer.MAX_VALUE
+                : move == stored ? Integer.MAX_VALUE - 1
+                : hand.get(legal.getCardIdx()).getValue() * 16 + (15 - contest);
+        count = moves.insert(ply, count, move, key);
+      }
+      // Passing is always possible, and tried last unless it was the expected move
+      return moves.insert(ply, count, PASS, expected == PASS ? Integer.MAX_VALUE
+              : stored == PASS ? Integer.MAX_VALUE - 1 : Integer.MIN_VALUE);
+    }
+
+    private int rowScore(Board.Player player, int row) {
+      return player == Board.Player.RED ? board.getRedRowScore(row) : board.getBlueRowScore(row);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package cs3500.queensboard.strategy;
+
+import java.util.List;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * EndgameStrategy plays another strategy until only a few cells without a card are left,
+ * then solves the rest of the game exactly: it searches every line of play of both players
+ * to the end of the game and chooses the move leaving the best final score margin the
+ * opponent cannot avoid. After a solved decision that margin can be read with getLastMargin.
+ * The search is alpha-beta on a single copy of the board, making and undoing moves. Positions
+ * are kept in a TranspositionTable under the board's position hash, which covers the cards
+ * left to draw as well as the state hash. Every entry holds a result searched to the end of
+ * the game from that exact position, so the table stays valid from one decision to the next,
+ * and a game dealt from differently ordered decks never reads another game's results.
+ * Solving must finish within the time budget; if it does not, the search is abandoned and the
+ * other strategy chooses the move instead, so a decision never takes much longer than the
+ * budget plus the other strategy's own time.
+ */
+public class EndgameStrategy implements Strategy {
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int PASS = SearchMoves.PASS;
+  private static final int NO_MOVE = SearchMoves.NO_MOVE;
+  private static final int SOLVED = 127; // depth stored for results searched to the end
+  private static final int CHECK_INTERVAL = 1024; // nodes searched between clock checks
+
+  private final Strategy fallback;
+  private final int threshold;
+  private final long budgetNanos;
+  private final TranspositionTable table = new TranspositionTable(1 << 16);
+  private volatile boolean lastSolved;
+  private volatile int lastMargin;
+
+  /**
+   * Creates the strategy, solving once at most 6 cells are without a card, within 50
+   * milliseconds.
+   *
+   * @param fallback the strategy to play before the endgame, or when solving runs out of time
+   * @throws IllegalArgumentException if the strategy is null
+   */
+  public EndgameStrategy(Strategy fallback) {
+    this(fallback, 6, 50);
+  }
+
+  /**
+   * Creates the strategy.
+   *
+   * @param fallback     the strategy to play before the endgame, or when solving runs out of
+   *                     time
+   * @param threshold    most cells without a card for the game to be solved
+   * @param budgetMillis time to solve each move in, in milliseconds
+   * @throws IllegalArgumentException if the strategy is null, or the threshold or budget is
+   *                                  not positive
+   */
+  public EndgameStrategy(Strategy fallback, int threshold, long budgetMillis) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    if (threshold <= 0 || budgetMillis <= 0) {
+      throw new IllegalArgumentException("Threshold and budget must be positive");
+    }
+    this.fallback = fallback;
+    this.threshold = threshold;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+  }
+
+  /**
+   * Chooses the provably best move once few enough cells are left and the game is solved in
+   * time, otherwise the move of the other strategy.
+   *
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    lastSolved = false;
+    if (board.isGameOver() || placeableCells(board) > threshold) {
+      return fallback.chooseMove(board);
+    }
+
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    table.newSearch();
+    Solve solve = new Solve(board.copy(), System.nanoTime() + budgetNanos);
+    int margin;
+    try {
+      margin = solve.negamax(0, -INFINITY, INFINITY);
+    } catch (SearchMoves.OutOfTime e) {
+      return fallback.chooseMove(board); // every move made was undone on the way out
+    }
+    lastSolved = true;
+    lastMargin = margin;
+
+    return event.decided(this, SearchMoves.toMove(board, solve.best),
+            (int) Math.min(solve.nodes, Integer.MAX_VALUE));
+  }
+
+  /**
+   * Returns whether the last decision was solved exactly, rather than made by the other
+   * strategy.
+   */
+  public boolean isLastSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Returns the final score margin of the player who made the last solved decision (their
+   * score minus the opponent's at the end of the game), if both players play their best from
+   * there on. Only meaningful when isLastSolved is true.
+   */
+  public int getLastMargin() {
+    return lastMargin;
+  }
+
+  // Cells that can still receive a card, each bounding the moves left to play
+  private static int placeableCells(ReadOnlyQueensBoard board) {
+    int cells = 0;
+    for (int row = 0; row < board.getHeight(); row++) {
+      for (int col = 0; col < board.getWidth(); col++) {
+        if (!board.getCell(row, col).hasCard()) {
+          cells++;
+        }
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * One decision's search, on moves encoded by SearchMoves.
+   */
+  private final class Solve {
+    private final Board board;
+    private final long deadline;
+    private final SearchMoves moves = new SearchMoves(16);
+    private long nodes;
+    private int best = PASS; // best move at the root
+
+    Solve(Board board, long deadline) {
+      this.board = board;
+      this.deadline = deadline;
+    }
+
+    // Final score margin for the player to move, with both players playing their best
+    int negamax(int ply, int alpha, int beta) {
+      nodes++;
+      if (nodes % CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+        throw SearchMoves.OutOfTime.INSTANCE;
+      }
+      if (board.isGameOver()) {
+        Board.Player player = board.getTurn();
+        return board.getScore(player) - board.getScore(SearchMoves.opponent(player));
+      }
+
+      // The root is always searched, so it has a best move
+      long key = board.getPositionHash();
+      long entry = table.probe(key);
+      int stored = entry == 0 ? NO_MOVE : TranspositionTable.move(entry);
+      if (ply > 0 && entry != 0) {
+        int score = TranspositionTable.score(entry);
+        int bound = TranspositionTable.bound(entry);
+        if (bound == TranspositionTable.EXACT
+                || bound == TranspositionTable.LOWER && score >= beta
+                || bound == TranspositionTable.UPPER && score <= alpha) {
+          return score;
+        }
+      }
+
+      int alphaBefore = alpha;
+      int count = generate(ply, stored);
+      int bestScore = -INFINITY;
+      int bestMove = NO_MOVE;
+      for (int i = 0; i < count; i++) {
+        int move = moves.get(ply, i);
+        SearchMoves.play(board, move);
+        int score;
+        try {
+          score = -negamax(ply + 1, -beta, -alpha);
+        } finally {
+          board.undo();
+        }
+        if (score > bestScore) {
+          bestScore = score;
+          bestMove = move;
+        }
+        alpha = Math.max(alpha, score);
+        if (alpha >= beta) {
+          break;
+        }
+      }
+      int bound = bestScore <= alphaBefore ? TranspositionTable.UPPER
+              : bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+      table.store(key, SOLVED, bound, bestScore, bestMove);
+      if (ply == 0) {
+        best = bestMove;
+      }
+      return bestScore;
+    }
+
+    // Fills the list of the ply with the legal moves, returning how many there are: the
+    // stored best move of the position first, then the most valuable cards, passing last
+    private int generate(int ply, int stored) {
+      List<Card> hand = board.getHand();
+      int count = 0;
+      LegalMoves legal = board.legalMoves(board.getTurn());
+      while (legal.next()) {
+        int move = SearchMoves.encode(legal.getRow(), legal.getCol(), legal.getCardIdx(),
+                board.getWidth());
+        int key = move == stored ? Integer.MAX_VALUE : hand.get(legal.getCardIdx()).getValue();
+        count = moves.insert(ply, count, move, key);
+      }
+      return moves.insert(ply, count, PASS,
+              stored == PASS ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package cs3500.queensboard.strategy;
+
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+import cs3500.queensboard.transcript.Transcript;
+
+/**
+ * FillFirstStrategy is a Strategy that the computer player can
+ * use for game play.
+ */
+public class FillFirstStrategy implements Strategy {
+  private final Transcript transcript = Transcript.open("strategy-transcript-first.txt");
+
+  /**
+   * Strategy #1: Choose first card from player's hand & place in first possible position
+   * Possible position: pawns in cell == cost of card && owner of pawns in cell == card owner.
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    int checked = 0;
+    // First card in hand
+    Card card = board.getHand().get(0);
+
+    // Initialize move
+    Move fillMove = new Move(true);
+
+    // Iterate through game board to find FIRST valid place
+    for (int row = 0; row < board.getHeight(); row++) {
+      for (int col = 0; col < board.getWidth(); col++) {
+        // Add row, col to log
+        transcript.record(Transcript.Entry.CHECKED_POSITION, row, col, card.getCost());
+        checked++;
+
+        if (board.getCell(row, col).getPawnCount() <= card.getCost()
+                && board.getCell(row, col).getOwner() == card.getInfluence()
+                && !board.getCell(row,col).hasCard()) {
+          return event.decided(this, new Move(row, col, card), checked);
+        }
+      }
+    }
+    return event.decided(this, fillMove, checked); // If no move found, return pass
+  }
+
+
+  /**
+   * Constructs a BoardStrategy with the given game board.
+   *
+   * @param fileName the file name
+   * @param move Move object
+   * @param rowScore Int of row score
+   */
+  public void logMove(String fileName, Move move, int rowScore) {
+    // Written in the background, appended to the file
+    Transcript.open(fileName).record(Transcript.Entry.CHECKED_POSITION,
+            move.getRow(), move.getCol(), move.getCard().getCost());
+  }
+}
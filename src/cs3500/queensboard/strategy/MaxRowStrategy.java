@@ -0,0 +1,118 @@
+package cs3500.queensboard.strategy;
+
+import java.util.List;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+import cs3500.queensboard.transcript.Transcript;
+
+/**
+ * MaxRowStrategy is a Strategy that the computer player can
+ * use for game play.
+ */
+public class MaxRowStrategy implements Strategy {
+  private final Transcript transcript = Transcript.open("strategy-transcript-score.txt");
+
+  /**
+   * Strategy #2: Given a row, maximize the row score of the current player.
+   * Max score by choosing cell of player with most pawns + adding card from hand w/ that cost
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    int checked = 0;
+    BestCardInfo bestCardData = getBestCard(board.getHand());
+    int bestIndex = bestCardData.index;
+    Card bestCard = bestCardData.card;
+
+    // If no valid card was found, return a pass move
+    if (bestCard == null || bestIndex == -1) {
+      return event.decided(this, new Move(true), checked);
+    }
+
+    Board.Player currentPlayer = board.getTurn();
+    int bestValue = bestCard.getValue();
+    int bestCost = bestCard.getCost();
+
+    // Iterate through each row
+    for (int row = 0; row < board.getHeight(); row++) {
+      // Get the current and opponent's row scores
+      int currRowScore = (currentPlayer == Board.Player.RED)
+              ? board.getRedRowScore(row)
+              : board.getBlueRowScore(row);
+      int oppRowScore = (currentPlayer == Board.Player.RED)
+              ? board.getBlueRowScore(row)
+              : board.getRedRowScore(row);
+
+      // Log row scores for debugging
+      transcript.record(Transcript.Entry.ROW_SCORE, row, currRowScore, oppRowScore);
+
+      // If the current player has a lower or equal row-score than their opponent on that row,
+      // this strategy chooses the first card and location option that increases their row-score
+      // to be greater than or equal to the opponent’s row-score
+      if (currRowScore <= oppRowScore && (currRowScore + bestValue) >= oppRowScore) {
+        // Find a valid column to place the card in
+        for (int col = 0; col < board.getWidth(); col++) {
+          transcript.record(Transcript.Entry.CHECKED_POSITION, row, col, bestCost);
+          checked++;
+          if (board.getCell(row, col).getPawnCount() <= bestCost
+                  && board.getCell(row, col).getOwner() == currentPlayer) {
+            return event.decided(this, new Move(row, col, bestCard), checked);
+          }
+        }
+      }
+    }
+
+    // If no valid move was found, return a pass move
+    return event.decided(this, new Move(true), checked);
+  }
+
+  //helper to get best card for max score
+  private BestCardInfo getBestCard(List<Card> hand) {
+    Card bestCard = null;
+    int bestIndex = -1;
+    int maxValue = -1;
+
+    for (int i = 0; i < hand.size(); i++) {
+      Card card = hand.get(i);
+      if (card.getValue() > maxValue) {
+        maxValue = card.getValue();
+        bestCard = card;
+        bestIndex = i;
+      }
+    }
+    return new BestCardInfo(bestIndex, bestCard);
+  }
+
+
+
+  /**
+   * Constructs a BoardStrategy with the given game board.
+   *
+   * @param fileName the file name
+   * @param move Move object
+   * @param rowScore Int of row score
+   */
+  public void logMove(String fileName, Move move, int rowScore) {
+    // Written in the background, appended to the file
+    Transcript.open(fileName).record(Transcript.Entry.CHECKED_POSITION,
+            move.getRow(), move.getCol(), move.getCard().getCost());
+  }
+
+  /**
+   * Constructs a BoardStrategy with the given game board.
+   *
+   * @param fileName the file name
+   * @param row integer row
+   * @param currScore Int of current score
+   * @param oppScore Int of opponent score
+   */
+  public void logScore(String fileName, int row, int currScore, int oppScore) {
+    // Written in the background, appended to the file
+    Transcript.open(fileName).record(Transcript.Entry.ROW_SCORE, row, currScore, oppScore);
+  }
+
+}
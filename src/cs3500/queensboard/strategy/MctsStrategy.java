@@ -0,0 +1,258 @@
+package cs3500.queensboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * MctsStrategy is a Strategy that chooses moves by Monte Carlo tree search: it plays many
+ * random games (playouts) from the current position and picks the move whose games went
+ * best.
+ * Every worker of the pool searches the same tree at once. A worker walks down the tree by
+ * UCT, adds the moves below the node it stops at, then plays random legal placements until
+ * the game ends (passing only when no card can be placed) and credits the result to every
+ * node on its path. Nodes are counted as visited and lost on the way down (a virtual loss),
+ * so other workers prefer other branches until the result is in.
+ * Each worker plays on its own copy of the board, making moves and undoing them, so no cells,
+ * listeners or snapshots are involved. The search stops after a number of playouts or at a
+ * deadline, whichever comes first, and the most visited move is chosen. With a pool of one
+ * thread, the same seed always chooses the same move.
+ */
+public class MctsStrategy implements Strategy {
+  private static final int PASS = SearchMoves.PASS;
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private final ForkJoinPool pool;
+  private final int playouts;
+  private final long budgetNanos;
+  private final SplittableRandom seeds;
+  private volatile int lastPlayouts;
+
+  /**
+   * Creates the strategy, searching in the common ForkJoinPool for up to 20000 playouts or
+   * 100 milliseconds per move.
+   */
+  public MctsStrategy() {
+    this(ForkJoinPool.commonPool(), 20_000, 100, new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Creates the strategy.
+   *
+   * @param pool         the pool to search in, one worker per thread of its parallelism
+   * @param playouts     most playouts per move
+   * @param budgetMillis time to search each move for, in milliseconds
+   * @param seed         seed of the random playouts
+   * @throws IllegalArgumentException if the pool is null, or the playouts or budget are not
+   *                                  positive
+   */
+  public MctsStrategy(ForkJoinPool pool, int playouts, long budgetMillis, long seed) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    if (playouts <= 0 || budgetMillis <= 0) {
+      throw new IllegalArgumentException("Playouts and budget must be positive");
+    }
+    this.pool = pool;
+    this.playouts = playouts;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.seeds = new SplittableRandom(seed);
+  }
+
+  /**
+   * Chooses the most visited move after searching, or passes when no card can be placed.
+   *
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    if (board.isGameOver() || !board.hasLegalMove(board.getTurn())) {
+      lastPlayouts = 0;
+      return event.decided(this, new Move(true), 0);
+    }
+
+    Search search = new Search(board.copy(), System.nanoTime() + budgetNanos);
+    List<ForkJoinTask<?>> workers = new ArrayList<>();
+    for (int i = 0; i < pool.getParallelism(); i++) {
+      SplittableRandom random = seeds.split();
+      workers.add(pool.submit(() -> search.work(random)));
+    }
+    for (ForkJoinTask<?> worker : workers) {
+      worker.join();
+    }
+    lastPlayouts = search.played.get();
+
+    Node best = null;
+    for (Node child : search.root.children) {
+      if (best == null || child.visits > best.visits) {
+        best = child;
+      }
+    }
+    return event.decided(this, SearchMoves.toMove(board, best.move), lastPlayouts);
+  }
+
+  /**
+   * Returns the number of playouts made for the last decision.
+   */
+  public int getLastPlayouts() {
+    return lastPlayouts;
+  }
+
+  /**
+   * A position of the search tree, reached by its move. Counts are written under the node's
+   * lock and read without it.
+   */
+  private static final class Node {
+    private final int move; // encoded as by SearchMoves
+    private final Board.Player mover; // player who made the move
+    private volatile Node[] children; // null until expanded
+    private volatile int visits; // including playouts still running below the node
+    private volatile double wins; // for the mover, a tie counting half
+
+    Node(int move, Board.Player mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+
+    // Counts a visit whose result is not in yet, as a loss until it is
+    synchronized void addVirtualLoss() {
+      visits++;
+    }
+
+    synchronized void addResult(double result) {
+      wins += result;
+    }
+  }
+
+  /**
+   * One decision's search, shared by its workers.
+   */
+  private final class Search {
+    private final Board board;
+    private final long deadline;
+    private final Node root;
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger played = new AtomicInteger();
+
+    Search(Board board, long deadline) {
+      this.board = board;
+      this.deadline = deadline;
+      this.root = new Node(PASS, SearchMoves.opponent(board.getTurn()));
+      // Expanded before any worker starts, so there is a move to choose even if no playout
+      // starts before the deadline; then the first legal move is chosen
+      expand(root, board);
+    }
+
+    // Runs playouts on a copy of the board until the search is over
+    void work(SplittableRandom random) {
+      Board scratch = board.copy(); // copying only reads the board
+      List<Node> path = new ArrayList<>();
+      int cellCount = scratch.getHeight() * scratch.getWidth();
+      while (started.getAndIncrement() < playouts && System.nanoTime() < deadline) {
+        path.clear();
+        path.add(root);
+        root.addVirtualLoss();
+        Node node = root;
+        int made = 0;
+
+        // Walk down by UCT, adding children below the first node visited only once
+        while (!scratch.isGameOver()) {
+          Node[] children = node.children;
+          if (children == null) {
+            if (node != root && node.visits <= 1) {
+              break;
+            }
+            children = expand(node, scratch);
+          }
+          node = select(node, children);
+          node.addVirtualLoss();
+          path.add(node);
+          SearchMoves.play(scratch, node.move);
+          made++;
+        }
+
+        // Random placements until the game ends
+        while (!scratch.isGameOver() && made < 4 * cellCount) {
+          playRandom(scratch, random);
+          made++;
+        }
+
+        Board.Player winner = scratch.getWinner();
+        for (Node visited : path) {
+          visited.addResult(winner == visited.mover ? 1 : winner == Board.Player.NONE
+                  ? 0.5 : 0);
+        }
+        for (int i = 0; i < made; i++) {
+          scratch.undo();
+        }
+        played.incrementAndGet();
+      }
+    }
+
+    // Adds a child for every legal move of the position, passing included
+    private Node[] expand(Node node, Board position) {
+      synchronized (node) {
+        if (node.children == null) {
+          Board.Player player = position.getTurn();
+          List<Node> children = new ArrayList<>();
+          LegalMoves moves = position.legalMoves(player);
+          while (moves.next()) {
+            children.add(new Node(SearchMoves.encode(moves.getRow(), moves.getCol(),
+                    moves.getCardIdx(), position.getWidth()), player));
+          }
+          children.add(new Node(PASS, player));
+          node.children = children.toArray(new Node[0]);
+        }
+        return node.children;
+      }
+    }
+
+    // The child with the best upper confidence bound, unvisited children first
+    private Node select(Node parent, Node[] children) {
+      double logVisits = Math.log(Math.max(parent.visits, 1));
+      Node best = null;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      for (Node child : children) {
+        int visits = child.visits;
+        if (visits == 0) {
+          return child;
+        }
+        double bound = child.wins / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+        if (bound > bestBound) {
+          bestBound = bound;
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    // Places a card chosen at random among the legal placements, or passes if there are none
+    private void playRandom(Board position, SplittableRandom random) {
+      Board.Player player = position.getTurn();
+      int count = 0;
+      LegalMoves moves = position.legalMoves(player);
+      while (moves.next()) {
+        count++;
+      }
+      if (count == 0) {
+        position.pass();
+        return;
+      }
+      int chosen = random.nextInt(count);
+      moves = position.legalMoves(player);
+      for (int i = 0; i <= chosen; i++) {
+        moves.next();
+      }
+      position.placeCardInPosition(moves.getCardIdx(), moves.getRow(), moves.getCol());
+    }
+  }
+}
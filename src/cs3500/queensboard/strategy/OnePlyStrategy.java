@@ -0,0 +1,174 @@
+package cs3500.queensboard.strategy;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * OnePlyStrategy is a Strategy that tries every legal placement of every card in hand and
+ * keeps the one leaving the best position: the largest score margin over the opponent, then
+ * the most cells gained. Passing is only chosen when no card can be placed.
+ * The candidates are split across a ForkJoinPool. Each worker thread makes one scratch copy
+ * of the board per decision and evaluates its candidates by placing the card and undoing it,
+ * so no candidate needs a copy of its own. Ties are broken by position (lowest row, then
+ * column, then card index), which does not depend on how the candidates were split, so the
+ * same move is chosen whatever the number of threads.
+ */
+public class OnePlyStrategy implements Strategy {
+  private static final int LEAF_SIZE = 8; // candidates evaluated by a task without splitting
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates the strategy, evaluating candidates in the common ForkJoinPool.
+   */
+  public OnePlyStrategy() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates the strategy, evaluating candidates in the given pool.
+   *
+   * @param pool the pool to evaluate in
+   * @throws IllegalArgumentException if the pool is null
+   */
+  public OnePlyStrategy(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Chooses the placement with the best score margin, then the most cells gained, or passes
+   * when there is none.
+   *
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    Board.Player player = board.getTurn();
+
+    // Candidates as (card index, row, col) triples
+    int[] candidates = new int[48];
+    int count = 0;
+    LegalMoves moves = board.legalMoves(player);
+    while (moves.next()) {
+      if (count * 3 == candidates.length) {
+        candidates = Arrays.copyOf(candidates, candidates.length * 2);
+      }
+      candidates[count * 3] = moves.getCardIdx();
+      candidates[count * 3 + 1] = moves.getRow();
+      candidates[count * 3 + 2] = moves.getCol();
+      count++;
+    }
+    if (count == 0) {
+      return event.decided(this, new Move(true), 0);
+    }
+
+    Search search = new Search(board.copy(), player, candidates);
+    int candidate = pool.invoke(new Evaluate(search, 0, count));
+    int cardIdx = candidates[candidate * 3];
+    int row = candidates[candidate * 3 + 1];
+    int col = candidates[candidate * 3 + 2];
+    return event.decided(this, new Move(row, col, board.getHand().get(cardIdx)), count);
+  }
+
+  /**
+   * What every task of one decision shares: the board to copy, the candidates and their
+   * values, and a scratch copy of the board for each worker thread.
+   */
+  private static final class Search {
+    private final Board board;
+    private final Board.Player player;
+    private final Board.Player opponent;
+    private final int[] candidates;
+    private final long[] values; // written once per candidate, by the task rating it
+    private final int cellCount;
+    private final int ownedBefore;
+    private final Map<Thread, Board> scratch = new ConcurrentHashMap<>(); // by worker
+
+    Search(Board board, Board.Player player, int[] candidates) {
+      this.board = board;
+      this.player = player;
+      this.opponent = player == Board.Player.RED ? Board.Player.BLUE : Board.Player.RED;
+      this.candidates = candidates;
+      this.values = new long[candidates.length / 3];
+      this.cellCount = board.getHeight() * board.getWidth();
+      this.ownedBefore = board.getOwnedCells(player);
+    }
+
+    // Rates a candidate by its score margin, then the cells it gains
+    void rate(int candidate) {
+      int cardIdx = candidates[candidate * 3];
+      int row = candidates[candidate * 3 + 1];
+      int col = candidates[candidate * 3 + 2];
+      // Copying only reads the board, so workers can copy it at the same time
+      Board scratchBoard = scratch.computeIfAbsent(Thread.currentThread(), t -> board.copy());
+      scratchBoard.placeCardInPosition(cardIdx, row, col);
+      int margin = scratchBoard.getScore(player) - scratchBoard.getScore(opponent);
+      int gained = scratchBoard.getOwnedCells(player) - ownedBefore;
+      scratchBoard.undo();
+
+      values[candidate] = (long) margin * (cellCount + 1) + gained;
+    }
+
+    // The better of two rated candidates, the lower position if they are rated the same
+    int better(int a, int b) {
+      if (values[a] != values[b]) {
+        return values[a] > values[b] ? a : b;
+      }
+      return position(a) <= position(b) ? a : b;
+    }
+
+    private long position(int candidate) {
+      long cell = (long) candidates[candidate * 3 + 1] * board.getWidth()
+              + candidates[candidate * 3 + 2];
+      return cell << 32 | candidates[candidate * 3];
+    }
+  }
+
+  /**
+   * Rates the candidates of a range and returns the best one, splitting ranges larger than
+   * LEAF_SIZE.
+   */
+  private static final class Evaluate extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Search search;
+    private final int from;
+    private final int to;
+
+    Evaluate(Search search, int from, int to) {
+      this.search = search;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Integer compute() {
+      if (to - from <= LEAF_SIZE) {
+        int best = from;
+        search.rate(from);
+        for (int i = from + 1; i < to; i++) {
+          search.rate(i);
+          best = search.better(best, i);
+        }
+        return best;
+      }
+      int mid = (from + to) >>> 1;
+      Evaluate left = new Evaluate(search, from, mid);
+      left.fork();
+      int right = new Evaluate(search, mid, to).compute();
+      return search.better(left.join(), right);
+    }
+  }
+}
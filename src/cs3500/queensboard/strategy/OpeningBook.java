@@ -0,0 +1,253 @@
+package cs3500.queensboard.strategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * A book of opening moves: the move to play in positions reached early in the game, searched
+ * for ahead of time and kept in a file. Looking a position up costs a binary search of the
+ * file, which is memory-mapped rather than read in, so opening a book loads nothing onto the
+ * heap and any number of threads can look positions up at once.
+ * The file starts with a 16-byte header (the magic number, the format version and the number
+ * of entries), followed by 16-byte entries sorted by key: the 64-bit state hash of the
+ * position, the row and column of the move as shorts (-1 for a pass) and a fingerprint of
+ * the card placed. Cards are recorded by fingerprint rather than by index, since the order of
+ * a hand is not part of the state hash.
+ * Books are made with generate, which searches the positions of the first plies of the game,
+ * and write, or with the main method for the standard 3x5 board.
+ */
+public final class OpeningBook {
+  private static final int MAGIC = 0x51424F4B; // "QBOK"
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 16;
+  private static final int ENTRY_BYTES = 16;
+
+  private final MappedByteBuffer entries;
+  private final int size;
+
+  private OpeningBook(MappedByteBuffer entries, int size) {
+    this.entries = entries;
+    this.size = size;
+  }
+
+  /**
+   * Maps a book file into memory. The file stays mapped until the book is garbage collected.
+   *
+   * @param file the book file
+   * @return the book
+   * @throws IOException if the file cannot be read or is not a book
+   */
+  public static OpeningBook open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long length = channel.size();
+      if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+        throw new IOException("Not an opening book: " + file);
+      }
+      MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+      long count = entries.getLong(8);
+      if (entries.getInt(0) != MAGIC || entries.getInt(4) != VERSION
+              || length != HEADER_BYTES + count * ENTRY_BYTES) {
+        throw new IOException("Not an opening book: " + file);
+      }
+      return new OpeningBook(entries, (int) count);
+    }
+  }
+
+  /**
+   * Returns the number of positions in the book.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Looks up the book move of a position.
+   *
+   * @param board the position
+   * @return the book move, or null if the position is not in the book or its move cannot be
+   *         played on the board
+   */
+  public Move lookup(ReadOnlyQueensBoard board) {
+    if (board.isGameOver()) {
+      return null;
+    }
+    long key = board.getStateHash();
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int offset = HEADER_BYTES + mid * ENTRY_BYTES;
+      long found = entries.getLong(offset);
+      if (found < key) {
+        low = mid + 1;
+      } else if (found > key) {
+        high = mid - 1;
+      } else {
+        return toMove(board, entries.getShort(offset + 8), entries.getShort(offset + 10),
+                entries.getInt(offset + 12));
+      }
+    }
+    return null;
+  }
+
+  // The move an entry records, if it can be played: a card of the hand with the fingerprint
+  // that fits the cell
+  private static Move toMove(ReadOnlyQueensBoard board, int row, int col, int card) {
+    if (row < 0) {
+      return new Move(true);
+    }
+    if (row >= board.getHeight() || col >= board.getWidth()
+            || board.getCell(row, col).hasCard()
+            || board.getCell(row, col).getOwner() != board.getTurn()) {
+      return null;
+    }
+    for (Card inHand : board.getHand()) {
+      if (fingerprint(inHand) == card
+              && inHand.getCost() <= board.getCell(row, col).getPawnCount()) {
+        return new Move(row, col, inHand);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the fingerprint a book records a card by, from its name, cost and value. It is
+   * the same in every run.
+   */
+  static int fingerprint(Card card) {
+    return Objects.hash(card.getName(), card.getCost(), card.getValue());
+  }
+
+  /**
+   * Searches the positions of the first plies of a game for their book moves. Books are made
+   * for both players: the book player's moves are the searcher's, and every reply of the other
+   * player is followed, passing included, so the book answers whatever the opponent plays.
+   *
+   * @param start    the position to start from, which is left as it was
+   * @param plies    number of plies to cover
+   * @param searcher the strategy choosing the book moves, typically a deep search
+   * @return the book move of each position, by state hash
+   * @throws IllegalArgumentException if start or searcher is null, or plies is negative
+   */
+  public static Map<Long, Move> generate(Board start, int plies, Strategy searcher) {
+    if (start == null || searcher == null || plies < 0) {
+      throw new IllegalArgumentException("Invalid position, plies or searcher");
+    }
+    Map<Long, Move> book = new TreeMap<>();
+    Board board = start.copy();
+    explore(board, plies, Board.Player.RED, searcher, book);
+    explore(board, plies, Board.Player.BLUE, searcher, book);
+    return book;
+  }
+
+  private static void explore(Board board, int plies, Board.Player bookPlayer,
+                              Strategy searcher, Map<Long, Move> book) {
+    if (plies == 0 || board.isGameOver()) {
+      return;
+    }
+    if (board.getTurn() == bookPlayer) {
+      Move move = book.computeIfAbsent(board.getStateHash(), key -> searcher.chooseMove(board));
+      play(board, move);
+      explore(board, plies - 1, bookPlayer, searcher, book);
+      board.undo();
+      return;
+    }
+    // The cursor is reused by later calls, so the replies are collected first
+    List<Move> replies = new ArrayList<>();
+    LegalMoves legal = board.legalMoves(board.getTurn());
+    while (legal.next()) {
+      replies.add(new Move(legal.getRow(), legal.getCol(),
+              board.getHand().get(legal.getCardIdx())));
+    }
+    replies.add(new Move(true));
+    for (Move reply : replies) {
+      play(board, reply);
+      explore(board, plies - 1, bookPlayer, searcher, book);
+      board.undo();
+    }
+  }
+
+  private static void play(Board board, Move move) {
+    if (move.isPass()) {
+      board.pass();
+    } else {
+      board.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+              move.getCol());
+    }
+  }
+
+  /**
+   * Writes a book file, replacing any file already there.
+   *
+   * @param file  the book file
+   * @param moves the book move of each position, by state hash
+   * @throws IOException if the file cannot be written
+   */
+  public static void write(Path file, Map<Long, Move> moves) throws IOException {
+    Map<Long, Move> sorted = new TreeMap<>(moves);
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + sorted.size() * ENTRY_BYTES);
+    buffer.putInt(MAGIC).putInt(VERSION).putLong(sorted.size());
+    for (Map.Entry<Long, Move> entry : sorted.entrySet()) {
+      Move move = entry.getValue();
+      buffer.putLong(entry.getKey());
+      if (move.isPass()) {
+        buffer.putShort((short) -1).putShort((short) -1).putInt(0);
+      } else {
+        buffer.putShort((short) move.getRow()).putShort((short) move.getCol())
+                .putInt(fingerprint(move.getCard()));
+      }
+    }
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Searches the opening of the standard game, a 3x5 board with hands of 5 cards, and writes
+   * its book.
+   *
+   * @param args the red and blue deck configuration files, the book to write, and optionally
+   *             the plies to cover (4 by default) and the milliseconds to search each position
+   *             for (100 by default)
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 5) {
+      System.err.println("Usage: OpeningBook <RedDeckFilePath> <BlueDeckFilePath> <book> "
+              + "[plies] [millisPerPosition]");
+      return;
+    }
+    try {
+      int plies = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+      long millis = args.length > 4 ? Long.parseLong(args[4]) : 100;
+      DeckConfig deckConfig = new DeckConfig();
+      deckConfig.loadDeck(args[0], args[1]);
+      Board board = new Board(3, 5, false, deckConfig, args[0], args[1]);
+      board.startGame(deckConfig.getRedDeck(), deckConfig.getBlueDeck(), 5);
+
+      Map<Long, Move> book = generate(board, plies, new AlphaBetaStrategy(millis, 32));
+      write(Path.of(args[2]), book);
+      System.out.println("Wrote " + book.size() + " positions to " + args[2]);
+    } catch (IOException | IllegalArgumentException e) {
+      System.err.println("Error: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package cs3500.queensboard.strategy;
+
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * OpeningBookStrategy plays the moves of an OpeningBook while the game is still in the book,
+ * and another strategy's moves once it leaves it. A book move takes a binary search of the
+ * mapped book file, with no searching.
+ */
+public class OpeningBookStrategy implements Strategy {
+  private final OpeningBook book;
+  private final Strategy fallback;
+  private volatile boolean lastFromBook;
+
+  /**
+   * Creates the strategy.
+   *
+   * @param book     the book to play from
+   * @param fallback the strategy to play positions the book does not have
+   * @throws IllegalArgumentException if the book or strategy is null
+   */
+  public OpeningBookStrategy(OpeningBook book, Strategy fallback) {
+    if (book == null || fallback == null) {
+      throw new IllegalArgumentException("Book and strategy cannot be null");
+    }
+    this.book = book;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Chooses the book move of the position, or the other strategy's move if there is none.
+   *
+   * @return Move object, which is either a valid move or pass
+   */
+  @Override
+  public Move chooseMove(ReadOnlyQueensBoard board) {
+    StrategyDecisionEvent event = new StrategyDecisionEvent();
+    event.begin();
+    Move move = book.lookup(board);
+    lastFromBook = move != null;
+    if (move == null) {
+      return fallback.chooseMove(board);
+    }
+    return event.decided(this, move, 1);
+  }
+
+  /**
+   * Returns whether the last move chosen came from the book.
+   */
+  public boolean isLastFromBook() {
+    return lastFromBook;
+  }
+}
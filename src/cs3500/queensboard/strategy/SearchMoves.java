@@ -0,0 +1,100 @@
+package cs3500.queensboard.strategy;
+
+import java.util.Arrays;
+
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+
+/**
+ * What the strategies searching the game tree share: moves encoded as ints, made on a board
+ * and turned back into Moves, and a list of moves per ply kept in the order they should be
+ * tried. A move is the cell index (row * width + col) shifted left by 8 bits plus the card's
+ * index in hand, or PASS.
+ */
+final class SearchMoves {
+  static final int PASS = -1;
+  static final int NO_MOVE = TranspositionTable.NO_MOVE;
+
+  private int[][] moves;
+  private int[][] keys; // ordering keys of the moves
+
+  /**
+   * Creates empty move lists for the given number of plies, added to as deeper plies are
+   * reached.
+   */
+  SearchMoves(int plies) {
+    moves = new int[Math.max(plies, 1)][16];
+    keys = new int[moves.length][16];
+  }
+
+  static int encode(int row, int col, int cardIdx, int width) {
+    return (row * width + col) << 8 | cardIdx;
+  }
+
+  static void play(Board board, int move) {
+    if (move == PASS) {
+      board.pass();
+    } else {
+      int cell = move >>> 8;
+      board.placeCardInPosition(move & 0xFF, cell / board.getWidth(), cell % board.getWidth());
+    }
+  }
+
+  // The Move of an encoded move, with the card taken from the hand of the player to move
+  static Move toMove(ReadOnlyQueensBoard board, int move) {
+    if (move == PASS) {
+      return new Move(true);
+    }
+    int cell = move >>> 8;
+    return new Move(cell / board.getWidth(), cell % board.getWidth(),
+            board.getHand().get(move & 0xFF));
+  }
+
+  static Board.Player opponent(Board.Player player) {
+    return player == Board.Player.RED ? Board.Player.BLUE : Board.Player.RED;
+  }
+
+  int get(int ply, int i) {
+    return moves[ply][i];
+  }
+
+  // Inserts a move in the list of a ply in order of its key, highest first and ties in
+  // insertion order, returning the new number of moves
+  int insert(int ply, int count, int move, int key) {
+    if (ply >= moves.length) {
+      int grown = moves.length;
+      moves = Arrays.copyOf(moves, Math.max(ply + 1, grown * 2));
+      keys = Arrays.copyOf(keys, moves.length);
+      for (int i = grown; i < moves.length; i++) {
+        moves[i] = new int[16];
+        keys[i] = new int[16];
+      }
+    }
+    if (count == moves[ply].length) {
+      moves[ply] = Arrays.copyOf(moves[ply], count * 2);
+      keys[ply] = Arrays.copyOf(keys[ply], count * 2);
+    }
+    int i = count;
+    while (i > 0 && keys[ply][i - 1] < key) {
+      moves[ply][i] = moves[ply][i - 1];
+      keys[ply][i] = keys[ply][i - 1];
+      i--;
+    }
+    moves[ply][i] = move;
+    keys[ply][i] = key;
+    return count + 1;
+  }
+
+  /**
+   * Thrown to stop a search when its time budget runs out. The single instance carries no
+   * stack trace, so stopping costs nothing.
+   */
+  static final class OutOfTime extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final OutOfTime INSTANCE = new OutOfTime();
+
+    private OutOfTime() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package cs3500.queensboard.strategy;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a strategy choosing a move. The event lasts as long as the
+ * strategy takes to choose.
+ */
+@Name("cs3500.queensboard.StrategyDecision")
+@Label("Strategy Decision")
+@Category({"QueensBoard", "Strategy"})
+@Description("A strategy choosing a move")
+@StackTrace(false)
+final class StrategyDecisionEvent extends Event {
+  @Label("Strategy")
+  String strategy;
+
+  @Label("Candidates Evaluated")
+  @Description("Moves or cells the strategy looked at before choosing")
+  int candidates;
+
+  @Label("Pass")
+  boolean pass;
+
+  @Label("Row")
+  int row;
+
+  @Label("Column")
+  int col;
+
+  /**
+   * Ends the event with the move the strategy chose, and returns that move.
+   *
+   * @param strategy   the strategy that chose
+   * @param move       the move chosen
+   * @param candidates moves or cells looked at
+   * @return the move
+   */
+  Move decided(Strategy strategy, Move move, int candidates) {
+    end();
+    if (shouldCommit()) {
+      this.strategy = strategy.getClass().getSimpleName();
+      this.candidates = candidates;
+      this.pass = move.isPass();
+      this.row = move.getRow();
+      this.col = move.getCol();
+      commit();
+    }
+    return move;
+  }
+}
@@ -0,0 +1,261 @@
+package cs3500.queensboard.strategy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size table of search results keyed by the 64-bit position hash of a Board (its
+ * state hash with the cards left in the decks mixed in), so a search reaching a position it
+ * has already searched (through a different order of moves) can reuse the result. Each entry
+ * packs the depth searched, the kind of bound, the score and the best move into one long.
+ * The table lives in a direct ByteBuffer, outside the heap, as buckets of four 16-byte entries
+ * (one cache line). An entry is stored as the pair (key ^ data, data), written and read with
+ * volatile accesses and no locks. If two threads write the same entry at once, the pair read
+ * back can mix their writes, but then key ^ data no longer matches the key, so a torn entry
+ * reads as a miss rather than a wrong result. Any number of search threads can share a table.
+ * A store replaces the entry of the same position, else an empty entry, else the entry that
+ * is least worth keeping: the shallowest, counting entries from earlier searches as shallower
+ * the older they are.
+ * Data is packed as: score in bits 0-31, best move plus 2 in bits 32-49 (0 for none), depth
+ * in bits 50-56, bound in bits 57-58 and the search generation in bits 59-63.
+ */
+public final class TranspositionTable {
+  /**
+   * The score is exact.
+   */
+  public static final int EXACT = 1;
+
+  /**
+   * The score is a lower bound: the search failed high.
+   */
+  public static final int LOWER = 2;
+
+  /**
+   * The score is an upper bound: the search failed low.
+   */
+  public static final int UPPER = 3;
+
+  /**
+   * Move stored for entries without a best move.
+   */
+  public static final int NO_MOVE = -2;
+
+  private static final VarHandle LONGS =
+          MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+  private static final int ENTRY_BYTES = 16;
+  private static final int BUCKET_ENTRIES = 4;
+  private static final int MOVE_SHIFT = 32;
+  private static final int MOVE_BITS = 18;
+  private static final int DEPTH_SHIFT = 50;
+  private static final int MAX_DEPTH = 127;
+  private static final int BOUND_SHIFT = 57;
+  private static final int AGE_SHIFT = 59;
+  private static final int AGES = 32;
+  private static final int OCCUPANCY_SAMPLE = 1024;
+
+  private final ByteBuffer entries;
+  private final int bucketMask;
+  private final int size;
+  private volatile int generation;
+  private final LongAdder probes = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder stores = new LongAdder();
+  private final LongAdder collisions = new LongAdder();
+
+  /**
+   * Creates an empty table.
+   *
+   * @param size number of entries, rounded up to a power of two of at least four
+   * @throws IllegalArgumentException if size is not positive or larger than 2^26
+   */
+  public TranspositionTable(int size) {
+    if (size <= 0 || size > 1 << 26) {
+      throw new IllegalArgumentException("Table size must be between 1 and 2^26 entries");
+    }
+    int rounded = Math.max(BUCKET_ENTRIES, Integer.highestOneBit(size - 1) << 1);
+    this.size = rounded;
+    this.bucketMask = rounded / BUCKET_ENTRIES - 1;
+    // Aligned to a cache line, so a bucket never straddles two
+    int bytes = rounded * ENTRY_BYTES;
+    this.entries = ByteBuffer.allocateDirect(bytes + 64).alignedSlice(64)
+            .order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Returns the number of entries of the table.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Marks the start of a new search. Entries stored by earlier searches are kept, but are
+   * replaced before entries of this search.
+   */
+  public void newSearch() {
+    generation = (generation + 1) % AGES;
+  }
+
+  /**
+   * Looks up a position.
+   *
+   * @param key position hash of the position
+   * @return the packed entry of the position, or 0 if the table has none
+   */
+  public long probe(long key) {
+    probes.increment();
+    int bucket = bucketOffset(key);
+    for (int i = 0; i < BUCKET_ENTRIES; i++) {
+      int offset = bucket + i * ENTRY_BYTES;
+      long data = (long) LONGS.getVolatile(entries, offset + 8);
+      if (data != 0 && ((long) LONGS.getVolatile(entries, offset) ^ data) == key) {
+        hits.increment();
+        return data;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Stores the result of searching a position.
+   *
+   * @param key   position hash of the position
+   * @param depth plies searched below the position, at most 127
+   * @param bound EXACT, LOWER or UPPER
+   * @param score score found
+   * @param move  best move found, from -1 (a pass) to 2^18 - 3, or NO_MOVE; other moves are
+   *              stored as NO_MOVE
+   */
+  public void store(long key, int depth, int bound, int score, int move) {
+    stores.increment();
+    int age = generation;
+    long packedMove = move + 2 >= 0 && move + 2 < 1 << MOVE_BITS ? move + 2 : 0;
+    long data = (score & 0xFFFFFFFFL)
+            | packedMove << MOVE_SHIFT
+            | (long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT
+            | (long) bound << BOUND_SHIFT
+            | (long) age << AGE_SHIFT;
+
+    int bucket = bucketOffset(key);
+    int victim = -1;
+    int victimWorth = Integer.MAX_VALUE;
+    for (int i = 0; i < BUCKET_ENTRIES; i++) {
+      int offset = bucket + i * ENTRY_BYTES;
+      long old = (long) LONGS.getVolatile(entries, offset + 8);
+      if (old == 0 || ((long) LONGS.getVolatile(entries, offset) ^ old) == key) {
+        victim = offset; // an empty entry, or the same position
+        victimWorth = Integer.MIN_VALUE;
+        break;
+      }
+      int oldAge = (int) (old >>> AGE_SHIFT);
+      int worth = depth(old) - 8 * ((age - oldAge + AGES) % AGES);
+      if (worth < victimWorth) {
+        victim = offset;
+        victimWorth = worth;
+      }
+    }
+    if (victimWorth != Integer.MIN_VALUE) {
+      collisions.increment(); // another position had to make room
+    }
+    LONGS.setVolatile(entries, victim, key ^ data);
+    LONGS.setVolatile(entries, victim + 8, data);
+  }
+
+  private int bucketOffset(long key) {
+    return ((int) (key ^ key >>> 32) & bucketMask) * BUCKET_ENTRIES * ENTRY_BYTES;
+  }
+
+  /**
+   * Returns the score of a packed entry.
+   */
+  public static int score(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Returns the best move of a packed entry, or NO_MOVE.
+   */
+  public static int move(long entry) {
+    return (int) (entry >>> MOVE_SHIFT & (1 << MOVE_BITS) - 1) - 2;
+  }
+
+  /**
+   * Returns the depth of a packed entry.
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT & MAX_DEPTH);
+  }
+
+  /**
+   * Returns the bound of a packed entry: EXACT, LOWER or UPPER.
+   */
+  public static int bound(long entry) {
+    return (int) (entry >>> BOUND_SHIFT & 0x3);
+  }
+
+  /**
+   * Empties the table and resets its statistics.
+   */
+  public void clear() {
+    for (int offset = 0; offset < size * ENTRY_BYTES; offset += 8) {
+      LONGS.setVolatile(entries, offset, 0L);
+    }
+    probes.reset();
+    hits.reset();
+    stores.reset();
+    collisions.reset();
+  }
+
+  /**
+   * Returns the number of lookups made.
+   */
+  public long getProbes() {
+    return probes.sum();
+  }
+
+  /**
+   * Returns the number of lookups that found their position.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the fraction of lookups that found their position, 0 if there were none.
+   */
+  public double getHitRate() {
+    long probed = probes.sum();
+    return probed == 0 ? 0 : (double) hits.sum() / probed;
+  }
+
+  /**
+   * Returns the number of results stored.
+   */
+  public long getStores() {
+    return stores.sum();
+  }
+
+  /**
+   * Returns the number of stores that replaced the entry of another position.
+   */
+  public long getCollisions() {
+    return collisions.sum();
+  }
+
+  /**
+   * Returns the fraction of entries in use, estimated from the first 1024 entries.
+   */
+  public double getOccupancy() {
+    int sampled = Math.min(size, OCCUPANCY_SAMPLE);
+    int used = 0;
+    for (int i = 0; i < sampled; i++) {
+      if ((long) LONGS.getVolatile(entries, i * ENTRY_BYTES + 8) != 0) {
+        used++;
+      }
+    }
+    return (double) used / sampled;
+  }
+}
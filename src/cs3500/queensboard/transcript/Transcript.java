@@ -0,0 +1,235 @@
+package cs3500.queensboard.transcript;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A transcript file that strategies record what they examine in, written in the background.
+ * Recording an entry only copies a few ints into a lock-free ring buffer: no formatting, no
+ * strings and no file access happen on the caller's thread. A single daemon writer thread
+ * drains the rings of every transcript in batches, formats the entries and appends them to
+ * their files. When a file grows past its size limit it is rotated: it is compressed to
+ * name.1.gz (older copies move up to name.2.gz and so on, the oldest being deleted) and a
+ * new file is started.
+ * If a ring is full because the writer has fallen behind, entries are dropped and counted
+ * rather than making the caller wait; so are entries the writer fails to write to the
+ * file. Transcripts are enabled unless the system property "queensboard.transcripts" is
+ * "false", and can be switched with setEnabled. Recording to a disabled transcript costs a
+ * single volatile read.
+ */
+public final class Transcript {
+  private static final Map<Path, Transcript> OPEN = new ConcurrentHashMap<>();
+  private static final long DEFAULT_MAX_BYTES = 1 << 20;
+  private static final int DEFAULT_KEEP = 5;
+  private static final int CAPACITY = 1 << 13; // entries per ring, a power of two
+  private static final int WAKE_INTERVAL = CAPACITY / 4; // entries recorded between wake-ups
+  private static volatile boolean enabled =
+          !"false".equalsIgnoreCase(System.getProperty("queensboard.transcripts"));
+
+  /**
+   * The kinds of entries a transcript holds, each with three int fields.
+   */
+  public enum Entry {
+    /**
+     * A cell a strategy checked: row, column and the cost of the card it was checked for.
+     */
+    CHECKED_POSITION {
+      @Override
+      void format(StringBuilder out, int row, int col, int cost) {
+        out.append("Checked Position - Row: ").append(row).append(", Col: ").append(col)
+                .append(", Card: ").append(cost);
+      }
+    },
+
+    /**
+     * A row a strategy compared: row, the current player's and the opponent's row scores.
+     */
+    ROW_SCORE {
+      @Override
+      void format(StringBuilder out, int row, int score, int opponentScore) {
+        out.append("Row: ").append(row).append(", Current Player Score: ").append(score)
+                .append(", Opponent Score: ").append(opponentScore);
+      }
+    };
+
+    // Appends the entry as a line of text, without the line separator
+    abstract void format(StringBuilder out, int a, int b, int c);
+  }
+
+  private static final Entry[] ENTRIES = Entry.values();
+
+  private final Path file;
+  private final long maxBytes;
+  private final int keep;
+  // Ring slots: a slot is free for the producer at position p when its sequence is p, and
+  // holds an entry for the writer when its sequence is p + 1
+  private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+  private final int[] kinds = new int[CAPACITY];
+  private final int[] fieldA = new int[CAPACITY];
+  private final int[] fieldB = new int[CAPACITY];
+  private final int[] fieldC = new int[CAPACITY];
+  private final AtomicLong tail = new AtomicLong(); // next position to record at
+  private long head; // next position to write, only used by the writer
+  private volatile long written; // positions before this are in the file
+  private final LongAdder dropped = new LongAdder();
+
+  private Transcript(Path file, long maxBytes, int keep) {
+    this.file = file;
+    this.maxBytes = maxBytes;
+    this.keep = keep;
+    for (int i = 0; i < CAPACITY; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Returns the transcript of a file in the working directory, rotated at 1 MB with 5
+   * compressed copies kept.
+   *
+   * @param fileName name of the transcript file
+   * @return the transcript, shared by everyone recording to that file
+   */
+  public static Transcript open(String fileName) {
+    return open(Path.of(fileName), DEFAULT_MAX_BYTES, DEFAULT_KEEP);
+  }
+
+  /**
+   * Returns the transcript of a file. A file already open keeps the limits it was opened
+   * with.
+   *
+   * @param file     the transcript file, appended to if it exists
+   * @param maxBytes size past which the file is rotated
+   * @param keep     number of compressed copies kept when rotating
+   * @return the transcript, shared by everyone recording to that file
+   * @throws IllegalArgumentException if maxBytes or keep is not positive
+   */
+  public static Transcript open(Path file, long maxBytes, int keep) {
+    if (maxBytes <= 0 || keep <= 0) {
+      throw new IllegalArgumentException("Size limit and copies kept must be positive");
+    }
+    return OPEN.computeIfAbsent(file.toAbsolutePath().normalize(), path -> {
+      Transcript transcript = new Transcript(path, maxBytes, keep);
+      TranscriptWriter.get().add(transcript);
+      return transcript;
+    });
+  }
+
+  /**
+   * Returns whether transcripts are being recorded.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns recording of every transcript on or off.
+   *
+   * @param on whether to record
+   */
+  public static void setEnabled(boolean on) {
+    enabled = on;
+  }
+
+  /**
+   * Records an entry, unless transcripts are disabled. Never blocks: if the ring is full the
+   * entry is dropped.
+   *
+   * @param entry kind of entry
+   * @param a     first field of the entry
+   * @param b     second field of the entry
+   * @param c     third field of the entry
+   */
+  public void record(Entry entry, int a, int b, int c) {
+    if (!enabled) {
+      return;
+    }
+    long pos = tail.get();
+    while (true) {
+      int slot = (int) pos & (CAPACITY - 1);
+      long gap = sequences.getAcquire(slot) - pos;
+      if (gap == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          kinds[slot] = entry.ordinal();
+          fieldA[slot] = a;
+          fieldB[slot] = b;
+          fieldC[slot] = c;
+          sequences.setRelease(slot, pos + 1);
+          if ((pos + 1) % WAKE_INTERVAL == 0) {
+            TranscriptWriter.get().wake(); // drained before the ring fills up
+          }
+          return;
+        }
+        pos = tail.get();
+      } else if (gap < 0) {
+        dropped.increment(); // the writer has not freed this slot yet
+        return;
+      } else {
+        pos = tail.get(); // another thread took the slot
+      }
+    }
+  }
+
+  /**
+   * Waits until every entry recorded before this call is in the file.
+   */
+  public void flush() {
+    long target = tail.get();
+    while (written < target) {
+      TranscriptWriter.get().wake();
+      LockSupport.parkNanos(100_000);
+    }
+  }
+
+  /**
+   * Returns the number of entries dropped because the ring was full or they could not be
+   * written to the file.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  Path getFile() {
+    return file;
+  }
+
+  long getMaxBytes() {
+    return maxBytes;
+  }
+
+  int getKeep() {
+    return keep;
+  }
+
+  // Appends up to limit recorded entries as lines, returning how many there were. Called by
+  // the writer only.
+  int drain(StringBuilder out, int limit) {
+    int count = 0;
+    while (count < limit) {
+      int slot = (int) head & (CAPACITY - 1);
+      if (sequences.getAcquire(slot) != head + 1) {
+        break; // nothing recorded there yet
+      }
+      ENTRIES[kinds[slot]].format(out, fieldA[slot], fieldB[slot], fieldC[slot]);
+      out.append(System.lineSeparator());
+      sequences.setRelease(slot, head + CAPACITY); // free for the next lap
+      head++;
+      count++;
+    }
+    return count;
+  }
+
+  // Counts drained entries the writer failed to write as dropped. Called by the writer only.
+  void dropUnwritten(int count) {
+    dropped.add(count);
+  }
+
+  // Marks the drained entries as written. Called by the writer only.
+  void markWritten() {
+    written = head;
+  }
+}
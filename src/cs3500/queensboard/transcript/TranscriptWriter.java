@@ -0,0 +1,163 @@
+package cs3500.queensboard.transcript;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The daemon thread writing every Transcript to its file. It drains each transcript's ring in
+ * batches of up to BATCH entries, appends the batch to the file in a single write and rotates
+ * the file once it passes its size limit. When there is nothing to write it parks until a
+ * transcript wakes it, because a ring is filling up or is being flushed, or for at most a
+ * quarter of a second. A batch that cannot be written is counted with the transcript's
+ * dropped entries. Entries still in the rings at exit are written by a shutdown hook.
+ */
+final class TranscriptWriter extends Thread {
+  private static final int BATCH = 1024;
+  private static final long IDLE_NANOS = 250_000_000;
+  private static final TranscriptWriter INSTANCE = start(new TranscriptWriter());
+
+  private final List<Output> outputs = new CopyOnWriteArrayList<>();
+
+  private TranscriptWriter() {
+    super("queensboard-transcripts");
+    setDaemon(true);
+  }
+
+  private static TranscriptWriter start(TranscriptWriter writer) {
+    writer.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(writer::drainAll));
+    return writer;
+  }
+
+  static TranscriptWriter get() {
+    return INSTANCE;
+  }
+
+  void add(Transcript transcript) {
+    outputs.add(new Output(transcript));
+  }
+
+  void wake() {
+    LockSupport.unpark(this);
+  }
+
+  @Override
+  public void run() {
+    while (true) {
+      if (!drainAll()) {
+        LockSupport.parkNanos(IDLE_NANOS);
+      }
+    }
+  }
+
+  // Writes what every transcript has recorded, returning whether there was anything. The
+  // shutdown hook may call this while the thread is still running, hence the lock.
+  private synchronized boolean drainAll() {
+    boolean wrote = false;
+    for (Output output : outputs) {
+      wrote |= output.drain();
+    }
+    return wrote;
+  }
+
+  /**
+   * A transcript and the file it is being written to.
+   */
+  private static final class Output {
+    private final Transcript transcript;
+    private final StringBuilder batch = new StringBuilder();
+    private Writer writer; // null until there is something to write, or after a failure
+    private long size;
+
+    Output(Transcript transcript) {
+      this.transcript = transcript;
+    }
+
+    boolean drain() {
+      boolean wrote = false;
+      int count;
+      while ((count = transcript.drain(batch, BATCH)) > 0) {
+        wrote = true;
+        if (write()) {
+          size += batch.length();
+          if (size >= transcript.getMaxBytes()) {
+            try {
+              rotate();
+            } catch (IOException e) {
+              System.err.println("Error rotating transcript: " + e.getMessage());
+            }
+          }
+        } else {
+          transcript.dropUnwritten(count);
+        }
+        batch.setLength(0);
+      }
+      transcript.markWritten();
+      return wrote;
+    }
+
+    // Appends the batch to the file and flushes it, returning whether it was written. After a
+    // failure the file is closed, to be opened again for the next batch.
+    private boolean write() {
+      try {
+        if (writer == null) {
+          Path file = transcript.getFile();
+          size = Files.exists(file) ? Files.size(file) : 0;
+          writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                  StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.append(batch);
+        writer.flush();
+        return true;
+      } catch (IOException e) {
+        System.err.println("Error writing to transcript: " + e.getMessage());
+        close();
+        return false;
+      }
+    }
+
+    // Compresses the full file to name.1.gz, moving older copies up and dropping the oldest
+    private void rotate() throws IOException {
+      close();
+      Path file = transcript.getFile();
+      int keep = transcript.getKeep();
+      Files.deleteIfExists(copy(file, keep));
+      for (int i = keep - 1; i >= 1; i--) {
+        if (Files.exists(copy(file, i))) {
+          Files.move(copy(file, i), copy(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+      try (InputStream in = Files.newInputStream(file);
+           OutputStream out = new GZIPOutputStream(Files.newOutputStream(copy(file, 1)))) {
+        in.transferTo(out);
+      }
+      Files.delete(file);
+    }
+
+    private static Path copy(Path file, int index) {
+      return file.resolveSibling(file.getFileName() + "." + index + ".gz");
+    }
+
+    private void close() {
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (IOException e) {
+          System.err.println("Error closing transcript: " + e.getMessage());
+        }
+        writer = null;
+      }
+    }
+  }
+}
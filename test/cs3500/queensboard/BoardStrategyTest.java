@@ -3,6 +3,8 @@ package cs3500.queensboard;
 import java.io.FileWriter;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
@@ -11,13 +13,25 @@ import cs3500.queensboard.model.Board;
 import cs3500.queensboard.model.Card;
 import cs3500.queensboard.controller.DeckConfig;
 import cs3500.queensboard.model.QueensBoard;
+import cs3500.queensboard.strategy.AlphaBetaStrategy;
+import cs3500.queensboard.strategy.EndgameStrategy;
 import cs3500.queensboard.strategy.FillFirstStrategy;
 import cs3500.queensboard.strategy.MaxRowStrategy;
+import cs3500.queensboard.strategy.MctsStrategy;
 import cs3500.queensboard.strategy.Move;
+import cs3500.queensboard.strategy.OnePlyStrategy;
+import cs3500.queensboard.strategy.OpeningBook;
+import cs3500.queensboard.strategy.OpeningBookStrategy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Board Strategy Test Class to test all strategies with mocks.
@@ -110,4 +124,348 @@ public class BoardStrategyTest {
     assertTrue(redScore <= blueScore);
   }
 
+  // Every legal placement, in order of row, column and card, with the board after it on its
+  // own copy of the board
+  private static Map<Move, Board> placements(Board board) {
+    Map<Move, Board> placements = new LinkedHashMap<>();
+    for (int row = 0; row < board.getHeight(); row++) {
+      for (int col = 0; col < board.getWidth(); col++) {
+        for (int card = 0; card < board.getHand().size(); card++) {
+          Board copy = board.copy();
+          try {
+            copy.placeCardInPosition(card, row, col);
+          } catch (IllegalStateException e) {
+            continue; // not a legal placement
+          }
+          placements.put(new Move(row, col, board.getHand().get(card)), copy);
+        }
+      }
+    }
+    return placements;
+  }
+
+  // The best move by trying each legal placement on its own copy of the board
+  private Move bestByCopying(Board board) {
+    Board.Player me = board.getTurn();
+    Board.Player other = me == Board.Player.RED ? Board.Player.BLUE : Board.Player.RED;
+    Move best = new Move(true);
+    long bestValue = Long.MIN_VALUE;
+    for (Map.Entry<Move, Board> placement : placements(board).entrySet()) {
+      Board copy = placement.getValue();
+      long value = (long) (copy.getScore(me) - copy.getScore(other))
+              * (board.getHeight() * board.getWidth() + 1)
+              + copy.getOwnedCells(me) - board.getOwnedCells(me);
+      if (value > bestValue) {
+        bestValue = value;
+        best = placement.getKey();
+      }
+    }
+    return best;
+  }
+
+  //The one-ply strategy picks the same move as trying every placement, on any pool size
+  @Test
+  public void testOnePlyMatchesTryingEveryPlacement() {
+    Board board = (Board) game;
+    board.startGame(redDeck, blueDeck, 5);
+    board.placeCardInPosition(0, 1, 0);
+    board.placeCardInPosition(1, 1, 4);
+    Move expected = bestByCopying(board);
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool four = new ForkJoinPool(4);
+    try {
+      for (ForkJoinPool pool : List.of(single, four)) {
+        Move move = new OnePlyStrategy(pool).chooseMove(board);
+        assertFalse(move.isPass());
+        assertEquals(expected.getRow(), move.getRow());
+        assertEquals(expected.getCol(), move.getCol());
+        assertEquals(expected.getCard(), move.getCard());
+      }
+    } finally {
+      single.shutdown();
+      four.shutdown();
+    }
+    // Trying the moves left the board as it was
+    assertEquals(Board.Player.RED, board.getTurn());
+    assertEquals(5, board.getHand().size());
+  }
+
+  //The one-ply strategy passes when no card can be placed
+  @Test
+  public void testOnePlyPassesWithoutLegalMoves() {
+    assertTrue(new OnePlyStrategy().chooseMove(game).isPass());
+  }
+
+  // Plain minimax on copies of the board: the score margin of the player to move, far beyond
+  // any margin once the game is over
+  private int minimax(Board board, int depth) {
+    Board.Player me = board.getTurn();
+    Board.Player other = me == Board.Player.RED ? Board.Player.BLUE : Board.Player.RED;
+    int margin = board.getScore(me) - board.getScore(other);
+    if (board.isGameOver()) {
+      return margin == 0 ? 0 : margin > 0 ? 1_000_000 + margin : margin - 1_000_000;
+    }
+    if (depth == 0) {
+      return margin;
+    }
+    Board passed = board.copy();
+    passed.pass();
+    int best = -minimax(passed, depth - 1);
+    for (Board copy : placements(board).values()) {
+      best = Math.max(best, -minimax(copy, depth - 1));
+    }
+    return best;
+  }
+
+  //Alpha-beta finds a move as good as plain minimax at the same depth
+  @Test
+  public void testAlphaBetaMatchesMinimax() {
+    Board board = (Board) game;
+    board.startGame(redDeck, blueDeck, 5);
+    board.placeCardInPosition(0, 1, 0);
+    board.placeCardInPosition(1, 1, 4);
+    for (int depth = 1; depth <= 3; depth++) {
+      AlphaBetaStrategy strategy = new AlphaBetaStrategy(60_000, depth);
+      Move move = strategy.chooseMove(board);
+      assertEquals(depth, strategy.getCompletedDepth());
+
+      Board after = board.copy();
+      if (move.isPass()) {
+        after.pass();
+      } else {
+        after.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+                move.getCol());
+      }
+      assertEquals(minimax(board, depth), -minimax(after, depth - 1));
+
+      // The principal variation starts with the move chosen
+      List<Move> line = strategy.getPrincipalVariation();
+      assertTrue(line.size() <= depth);
+      assertEquals(move.getRow(), line.get(0).getRow());
+      assertEquals(move.getCol(), line.get(0).getCol());
+    }
+    // Searching left the board as it was
+    assertEquals(Board.Player.RED, board.getTurn());
+    assertEquals(5, board.getHand().size());
+  }
+
+  //Alpha-beta stops deepening when its time budget runs out
+  @Test
+  public void testAlphaBetaKeepsToBudget() {
+    game.startGame(redDeck, blueDeck, 5);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(20, 32);
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(game);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    assertFalse(move.isPass());
+    assertTrue(strategy.getCompletedDepth() >= 1);
+    assertTrue(strategy.getTable().getStores() > 0);
+    assertTrue("took " + millis + " ms", millis < 1000);
+    assertEquals(9, game.getEmptySpaces()); // the search left the board as it was
+    assertEquals(Board.Player.RED, game.getTurn());
+  }
+
+  //Tree search makes every playout asked for, and one thread with one seed repeats its choice
+  @Test
+  public void testMctsIsReproducibleOnOneThread() {
+    Board board = (Board) game;
+    board.startGame(redDeck, blueDeck, 5);
+    ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      MctsStrategy first = new MctsStrategy(single, 2000, 60_000, 7);
+      MctsStrategy second = new MctsStrategy(single, 2000, 60_000, 7);
+      Move move = first.chooseMove(board);
+      Move again = second.chooseMove(board);
+      assertEquals(2000, first.getLastPlayouts());
+      assertFalse(move.isPass());
+      assertEquals(move.getRow(), again.getRow());
+      assertEquals(move.getCol(), again.getCol());
+      assertEquals(move.getCard(), again.getCard());
+
+      // The move is legal, and searching left the board as it was
+      assertEquals(9, board.getEmptySpaces());
+      board.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+              move.getCol());
+    } finally {
+      single.shutdown();
+    }
+  }
+
+  //Tree search still chooses a legal move when its pool is too busy to make any playout
+  @Test
+  public void testMctsChoosesWhenPoolIsBusy() {
+    Board board = (Board) game;
+    board.startGame(redDeck, blueDeck, 5);
+    ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      single.submit(() -> {
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      MctsStrategy strategy = new MctsStrategy(single, 2000, 5, 7);
+      Move move = strategy.chooseMove(board);
+      assertFalse(move.isPass());
+      assertEquals(0, strategy.getLastPlayouts());
+      board.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+              move.getCol());
+    } finally {
+      single.shutdown();
+    }
+  }
+
+  //Tree search passes when the game is not being played
+  @Test
+  public void testMctsPassesWithoutLegalMoves() {
+    assertTrue(new MctsStrategy().chooseMove(game).isPass());
+  }
+
+  // Plain negamax on copies of the board, to the end of the game: the final score margin of
+  // the player to move
+  private int finalMargin(Board board) {
+    Board.Player me = board.getTurn();
+    Board.Player other = me == Board.Player.RED ? Board.Player.BLUE : Board.Player.RED;
+    if (board.isGameOver()) {
+      return board.getScore(me) - board.getScore(other);
+    }
+    Board passed = board.copy();
+    passed.pass();
+    int best = -finalMargin(passed);
+    for (Board copy : placements(board).values()) {
+      best = Math.max(best, -finalMargin(copy));
+    }
+    return best;
+  }
+
+  //The endgame solver finds the final margin of searching every line, and a move keeping it
+  @Test
+  public void testEndgameMatchesFullSearch() {
+    DeckConfig smallConfig = new DeckConfig();
+    Board board = new Board(3, 3, false, smallConfig, redPath, bluePath);
+    List<Card> red = smallConfig.getRedDeck();
+    List<Card> blue = smallConfig.getBlueDeck();
+    smallConfig.loadDeck(redPath, bluePath);
+    board.startGame(red, blue, 5);
+    board.placeCardInPosition(0, 0, 0); //r
+    board.placeCardInPosition(0, 0, 2); //b
+    board.placeCardInPosition(0, 1, 0); //r
+    board.placeCardInPosition(0, 1, 2); //b
+
+    EndgameStrategy strategy = new EndgameStrategy(new FillFirstStrategy(), 6, 60_000);
+    Move move = strategy.chooseMove(board);
+    assertTrue(strategy.isLastSolved());
+    int margin = finalMargin(board);
+    assertEquals(margin, strategy.getLastMargin());
+
+    Board after = board.copy();
+    if (move.isPass()) {
+      after.pass();
+    } else {
+      after.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+              move.getCol());
+    }
+    assertEquals(margin, -finalMargin(after));
+    assertEquals(Board.Player.RED, board.getTurn()); // the search left the board as it was
+  }
+
+  // The position of testEndgameMatchesFullSearch with hands of 2, so cards are still drawn
+  // until the end; the sixth and ninth red cards, drawn after it, are swapped if reorder is set
+  private Board drawingEndgame(boolean reorder) {
+    DeckConfig config = new DeckConfig();
+    Board board = new Board(3, 3, false, config, redPath, bluePath);
+    config.loadDeck(redPath, bluePath);
+    List<Card> red = config.getRedDeck();
+    if (reorder) {
+      Collections.swap(red, 5, 8);
+    }
+    board.startGame(red, config.getBlueDeck(), 2);
+    board.placeCardInPosition(0, 0, 0); //r
+    board.placeCardInPosition(0, 0, 2); //b
+    board.placeCardInPosition(0, 1, 0); //r
+    board.placeCardInPosition(0, 1, 2); //b
+    return board;
+  }
+
+  //A solver reused for a game dealt differently does not answer from the other game's results
+  @Test
+  public void testEndgameTellsDeckOrdersApart() {
+    Board first = drawingEndgame(false);
+    Board second = drawingEndgame(true);
+    assertEquals(first.getStateHash(), second.getStateHash());
+    assertNotEquals(first.getPositionHash(), second.getPositionHash());
+
+    EndgameStrategy strategy = new EndgameStrategy(new FillFirstStrategy(), 9, 60_000);
+    for (Board board : List.of(first, second)) {
+      strategy.chooseMove(board);
+      assertTrue(strategy.isLastSolved());
+      assertEquals(finalMargin(board), strategy.getLastMargin());
+    }
+  }
+
+  //Above the threshold, or out of time, the other strategy chooses the move
+  @Test
+  public void testEndgameDefersToOtherStrategy() {
+    game.startGame(redDeck, blueDeck, 5);
+    Move expected = new FillFirstStrategy().chooseMove(game);
+
+    EndgameStrategy waiting = new EndgameStrategy(new FillFirstStrategy());
+    Move move = waiting.chooseMove(game);
+    assertFalse(waiting.isLastSolved());
+    assertEquals(expected.getRow(), move.getRow());
+    assertEquals(expected.getCol(), move.getCol());
+
+    // Solving the whole game does not fit in a millisecond
+    EndgameStrategy hurried = new EndgameStrategy(new FillFirstStrategy(), 15, 1);
+    long start = System.nanoTime();
+    move = hurried.chooseMove(game);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+    assertFalse(hurried.isLastSolved());
+    assertEquals(expected.getRow(), move.getRow());
+    assertEquals(expected.getCol(), move.getCol());
+    assertTrue("took " + millis + " ms", millis < 1000);
+    assertEquals(9, game.getEmptySpaces());
+  }
+
+  //A book written to a file answers the positions it covers with the searcher's moves
+  @Test
+  public void testOpeningBookAnswersFromFile() throws IOException {
+    Board board = (Board) game;
+    board.startGame(redDeck, blueDeck, 5);
+    Map<Long, Move> moves = OpeningBook.generate(board, 2, new OnePlyStrategy());
+    assertEquals(9, board.getEmptySpaces()); // generating left the board as it was
+    Path file = Files.createTempFile("opening", ".book");
+    try {
+      OpeningBook.write(file, moves);
+      OpeningBook book = OpeningBook.open(file);
+      assertEquals(moves.size(), book.size());
+
+      OpeningBookStrategy strategy = new OpeningBookStrategy(book, new FillFirstStrategy());
+      Move expected = new OnePlyStrategy().chooseMove(board);
+      Move move = strategy.chooseMove(board);
+      assertTrue(strategy.isLastFromBook());
+      assertEquals(expected.getRow(), move.getRow());
+      assertEquals(expected.getCol(), move.getCol());
+      assertEquals(expected.getCard(), move.getCard());
+
+      // Blue's reply to any first move is in the book, the position after it is not
+      board.pass();
+      assertTrue(book.lookup(board) != null);
+      board.undo();
+      board.placeCardInPosition(board.getHand().indexOf(move.getCard()), move.getRow(),
+              move.getCol());
+      Move reply = strategy.chooseMove(board);
+      assertTrue(strategy.isLastFromBook());
+      board.placeCardInPosition(board.getHand().indexOf(reply.getCard()), reply.getRow(),
+              reply.getCol());
+      strategy.chooseMove(board);
+      assertFalse(strategy.isLastFromBook());
+
+      Files.writeString(file, "not a book");
+      assertThrows(IOException.class, () -> OpeningBook.open(file));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
 }
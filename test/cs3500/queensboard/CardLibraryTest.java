@@ -0,0 +1,104 @@
+package cs3500.queensboard;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.Card;
+import cs3500.queensboard.model.CardLibrary;
+import cs3500.queensboard.model.QueensCard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A test class for the CardLibrary, ensuring copies are capped and that indexed queries find
+ * the same cards as checking each card.
+ */
+public class CardLibraryTest {
+  private final DeckConfig deckConfig = new DeckConfig();
+  private final CardLibrary library = new CardLibrary();
+
+  @Before
+  public void setUp() {
+    deckConfig.loadDeck("docs" + File.separator + "RedDeck.config",
+            "docs" + File.separator + "BlueDeck.config");
+    library.addAll(deckConfig.getRedDeck());
+    library.addAll(deckConfig.getBlueDeck());
+  }
+
+  // Whether a card influences a cell in one of the given columns of its grid
+  private static boolean influencesColumns(Card card, int first, int last) {
+    for (char[] row : card.getInfluenceGrid()) {
+      for (int j = first; j <= last; j++) {
+        if (row[j] == 'I') {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  //Queries match a scan of every card
+  @Test
+  public void testQueriesMatchScan() {
+    List<Card> expected = new ArrayList<>();
+    for (int i = 0; i < library.size(); i++) {
+      Card card = library.get(i);
+      boolean forward = card.getInfluence() == Board.Player.RED
+              ? influencesColumns(card, 3, 4) : influencesColumns(card, 0, 1);
+      if (card.getCost() == 1 && card.getValue() >= 3 && forward) {
+        expected.add(card);
+      }
+    }
+    List<Card> found = library.query().cost(1).minValue(3)
+            .influencing(CardLibrary.Direction.FORWARD).list();
+    assertEquals(expected, found);
+
+    int cheap = 0;
+    for (int i = 0; i < library.size(); i++) {
+      if (library.get(i).getValue() <= 1) {
+        cheap++;
+      }
+    }
+    assertEquals(cheap, library.query().maxValue(1).count());
+    assertEquals(library.size(), library.query().count());
+    assertEquals(0, library.query().cost(4).count());
+  }
+
+  //Shapes and covered cells are found through the mask index
+  @Test
+  public void testShapeQueries() {
+    Card first = library.get(0);
+    int mask = first.getInfluenceKernel().getMask();
+    assertTrue(library.query().shape(mask).list().contains(first));
+    assertTrue(library.query().influencingAll(mask).list().contains(first));
+    for (Card card : library.query().influencingAll(mask).list()) {
+      assertEquals(mask, card.getInfluenceKernel().getMask() & mask);
+    }
+    assertEquals(0, library.query().shape(1 << 12).count());
+  }
+
+  //At most two copies of a name are kept
+  @Test
+  public void testCopiesAreCapped() {
+    char[][] grid = {"XXXXX".toCharArray(), "XXIXX".toCharArray(), "XICIX".toCharArray(),
+        "XXIXX".toCharArray(), "XXXXX".toCharArray()};
+    CardLibrary small = new CardLibrary();
+    QueensCard bee = new QueensCard("Bee", 1, 1, Board.Player.RED, grid);
+    assertTrue(small.add(bee));
+    assertTrue(small.add(bee));
+    assertFalse(small.add(bee));
+    assertEquals(2, small.copiesOf("Bee"));
+    assertEquals(2, small.size());
+    assertThrows(IllegalArgumentException.class, () -> new CardLibrary(0));
+    assertThrows(IllegalArgumentException.class, () -> small.add(null));
+  }
+}
@@ -3,11 +3,15 @@ package cs3500.queensboard;
 import org.junit.Test;
 
 import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.CardCatalog;
+import cs3500.queensboard.model.InfluenceKernel;
 import cs3500.queensboard.model.QueensCard;
 
 import static cs3500.queensboard.model.QueensCard.reflectInfluence;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * A test class for the Queens Board game cards.
@@ -45,6 +49,18 @@ public class CardTest {
     assertEquals(testCard.getInfluenceGrid(), array);
   }
 
+  @Test
+  public void testInfluenceGridCannotBeChanged() {
+    char[][] array = new char[5][5];
+    QueensCard testCard = new QueensCard("TestCard", 1, 2, Board.Player.RED, array);
+    int hash = testCard.hashCode();
+    array[0][0] = 'I';
+    testCard.getInfluenceGrid()[1][1] = 'I';
+    assertEquals(testCard.getInfluenceGrid(), new char[5][5]);
+    assertEquals(hash, testCard.hashCode());
+    assertEquals(new QueensCard("TestCard", 1, 2, Board.Player.RED, new char[5][5]), testCard);
+  }
+
   @Test
   public void testToString() {
     QueensCard testCard = new QueensCard("TestCard", 1, 2, Board.Player.RED, new char[5][5]);
@@ -66,4 +82,57 @@ public class CardTest {
 
     assertEquals(reflectInfluence(redArray), blueArray);
   }
+
+  @Test
+  public void testInfluenceKernelOffsets() {
+    char[][] redArray = {{'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'I', 'X', 'X'},
+      {'X', 'X', 'C', 'I', 'I'},
+      {'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'X', 'X', 'X'}};
+    InfluenceKernel kernel = new QueensCard("TestCard", 1, 2, Board.Player.RED, redArray)
+            .getInfluenceKernel();
+
+    assertEquals(3, kernel.size());
+    assertEquals(-1, kernel.getRowOffset(0));
+    assertEquals(0, kernel.getColOffset(0));
+    assertEquals(0, kernel.getRowOffset(2));
+    assertEquals(2, kernel.getColOffset(2));
+  }
+
+  @Test
+  public void testInfluenceKernelMirrored() {
+    char[][] redArray = {{'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'I', 'X', 'X'},
+      {'X', 'X', 'C', 'I', 'I'},
+      {'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'X', 'X', 'X'}};
+    InfluenceKernel red = InfluenceKernel.compile(redArray);
+    InfluenceKernel blue = InfluenceKernel.compile(reflectInfluence(redArray));
+
+    assertEquals(blue.getMask(), red.mirrored().getMask());
+    assertEquals(red, red.mirrored().mirrored());
+  }
+
+  @Test
+  public void testCatalogInternsEqualCards() {
+    char[][] grid = {{'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'I', 'X', 'X'},
+      {'X', 'X', 'C', 'I', 'I'},
+      {'X', 'X', 'X', 'X', 'X'},
+      {'X', 'X', 'X', 'X', 'X'}};
+    QueensCard red = CardCatalog.intern("Catalog", 1, 2, Board.Player.RED, grid);
+    QueensCard again = CardCatalog.intern(new QueensCard("Catalog", 1, 2, Board.Player.RED,
+            grid));
+    QueensCard blue = CardCatalog.intern("Catalog", 1, 2, Board.Player.BLUE,
+            reflectInfluence(grid));
+
+    assertTrue(red == again);
+    assertTrue(red == CardCatalog.get(red.getId()));
+    assertNotEquals(red.getId(), blue.getId());
+    assertEquals(-1, new QueensCard("Catalog", 1, 2, Board.Player.RED, grid).getId());
+    assertEquals(red, new QueensCard("Catalog", 1, 2, Board.Player.RED, grid));
+    assertEquals(red.hashCode(), new QueensCard("Catalog", 1, 2, Board.Player.RED, grid)
+            .hashCode());
+  }
 }
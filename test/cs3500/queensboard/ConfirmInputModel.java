@@ -5,8 +5,11 @@ import java.util.List;
 import cs3500.queensboard.controller.DeckConfig;
 import cs3500.queensboard.controller.ModelStatus;
 import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.BoardSnapshot;
 import cs3500.queensboard.model.Card;
 import cs3500.queensboard.model.Cell;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ModelEventPublisher;
 import cs3500.queensboard.model.QueensBoard;
 import cs3500.queensboard.model.QueensCard;
 
@@ -36,6 +39,11 @@ public class ConfirmInputModel implements QueensBoard {
     log.append("pass()\n");
   }
 
+  @Override
+  public void undo() {
+    log.append("undo()\n");
+  }
+
   @Override
   public void startGame(List<Card> redDeck, List<Card> blueDeck, int handSize) {
     //this is a stub for starting the game
@@ -83,6 +91,26 @@ public class ConfirmInputModel implements QueensBoard {
     return null;
   }
 
+  @Override
+  public long getStateHash() {
+    return 0;
+  }
+
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return null;
+  }
+
+  @Override
+  public LegalMoves legalMoves(Board.Player player) {
+    return null;
+  }
+
+  @Override
+  public boolean hasLegalMove(Board.Player player) {
+    return false;
+  }
+
   @Override
   public boolean isGameOver() {
     return false;
@@ -156,4 +184,9 @@ public class ConfirmInputModel implements QueensBoard {
   public void addListener(ModelStatus listener) {
     //this is a stub for adding a listener
   }
+
+  @Override
+  public ModelEventPublisher getEvents() {
+    return null;
+  }
 }
@@ -4,10 +4,29 @@ import org.junit.Test;
 import org.junit.Before;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import cs3500.queensboard.controller.CardPack;
+import cs3500.queensboard.controller.DeckCache;
 import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.controller.DeckFormatException;
+import cs3500.queensboard.controller.DeckParser;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.QueensCard;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * A test class for the DeckConfig component of the Queens Board game.
@@ -35,4 +54,93 @@ public class DeckConfigTest {
     assertNotNull(deckConfig.getBlueDeck());
   }
 
+  //Parses the given deck text, returning "name cost value first-grid-row line" per card
+  private List<String> parse(String text) {
+    List<String> cards = new ArrayList<>();
+    DeckParser.parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), "test.config",
+        (name, cost, value, grid, line) ->
+            cards.add(name + " " + cost + " " + value + " " + new String(grid[0]) + " " + line));
+    return cards;
+  }
+
+  @Test
+  public void testDeckFilesLoadEveryCard() {
+    assertEquals(35, deckConfig.getRedDeck().size());
+    assertEquals(35, deckConfig.getBlueDeck().size());
+    assertEquals("Security", deckConfig.getRedDeck().get(0).getName());
+  }
+
+  @Test
+  public void testParserHandlesLineEndingsAndBlankLines() {
+    String grid = "XXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n";
+    List<String> cards = parse("Bee 1 2\n" + grid + "\n  \nWasp 3 4\r\n"
+        + grid.replace("\n", "\r\n"));
+    assertEquals(List.of("Bee 1 2 XXXXX 1", "Wasp 3 4 XXXXX 9"), cards);
+    assertEquals(List.of(), parse(""));
+  }
+
+  @Test
+  public void testParserReportsLineOfBadInput() {
+    DeckFormatException cost = assertThrows(DeckFormatException.class,
+        () -> parse("Bee one 2\nXXXXX\n"));
+    assertEquals(1, cost.getLine());
+    DeckFormatException row = assertThrows(DeckFormatException.class,
+        () -> parse("Bee 1 2\nXXXXX\nXXIX\nXICIX\nXXIXX\nXXXXX\n"));
+    assertEquals(3, row.getLine());
+    assertEquals("test.config:3: expected 5 influence characters in row 2", row.getMessage());
+    DeckFormatException missing = assertThrows(DeckFormatException.class,
+        () -> parse("Bee 1 2\nXXXXX\nXXIXX\n"));
+    assertEquals(4, missing.getLine());
+  }
+
+  @Test
+  public void testCardPackLoadsTheSameDecks() throws IOException {
+    Path redPack = Files.createTempFile("red", ".pack");
+    Path bluePack = Files.createTempFile("blue", ".pack");
+    try {
+      assertEquals(35, CardPack.compile(Path.of(redPath), redPack));
+      CardPack.compile(Path.of(bluePath), bluePack);
+      assertTrue(CardPack.isPack(redPack));
+      assertFalse(CardPack.isPack(Path.of(redPath)));
+
+      DeckConfig packed = new DeckConfig();
+      packed.loadDeck(redPack.toString(), bluePack.toString());
+      assertEquals(deckConfig.getRedDeck().size(), packed.getRedDeck().size());
+      for (int i = 0; i < packed.getRedDeck().size(); i++) {
+        assertSame(deckConfig.getRedDeck().get(i), packed.getRedDeck().get(i));
+        assertSame(deckConfig.getBlueDeck().get(i), packed.getBlueDeck().get(i));
+      }
+
+      CardPack pack = CardPack.open(redPack);
+      assertEquals(35, pack.size());
+      assertEquals("Security", pack.getName(pack.find("Security")));
+      assertEquals(-1, pack.find("No Such Card"));
+    } finally {
+      Files.delete(redPack);
+      Files.delete(bluePack);
+    }
+  }
+
+  @Test
+  public void testDeckCacheRereadsEditedFiles() throws IOException {
+    Path deck = Files.createTempFile("deck", ".config");
+    String grid = "XXXXX\nXXIXX\nXICIX\nXXIXX\nXXXXX\n";
+    try {
+      Files.writeString(deck, "Bee 1 2\n" + grid);
+      List<QueensCard> first = DeckCache.load(deck, Board.Player.RED, false);
+      assertSame(first, DeckCache.load(deck, Board.Player.RED, false));
+      assertEquals(1, first.size());
+      assertThrows(UnsupportedOperationException.class, () -> first.clear());
+
+      Files.writeString(deck, "Bee 1 2\n" + grid + "Wasp 2 3\n" + grid);
+      Files.setLastModifiedTime(deck, FileTime.fromMillis(
+          Files.getLastModifiedTime(deck).toMillis() + 2000));
+      List<QueensCard> edited = DeckCache.load(deck, Board.Player.RED, false);
+      assertEquals(2, edited.size());
+      assertSame(first.get(0), edited.get(0));
+      assertEquals(2, DeckCache.load(deck, Board.Player.BLUE, true).size());
+    } finally {
+      Files.delete(deck);
+    }
+  }
 }
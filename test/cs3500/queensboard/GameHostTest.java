@@ -0,0 +1,122 @@
+package cs3500.queensboard;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.controller.GameHost;
+import cs3500.queensboard.controller.GameResult;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.QueensBoard;
+import cs3500.queensboard.player.ComputerPlayer;
+import cs3500.queensboard.player.HumanPlayer;
+import cs3500.queensboard.player.PlayerActionsInterface;
+import cs3500.queensboard.strategy.Move;
+import cs3500.queensboard.strategy.Strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A test class for the GameHost, ensuring matches are played to the end without a view.
+ */
+public class GameHostTest {
+  private final String redPath = "docs" + File.separator + "RedDeck.config";
+  private final String bluePath = "docs" + File.separator + "BlueDeck.config";
+
+  // Plays the first legal move found, passing when there is none
+  private final Strategy firstMove = board -> {
+    LegalMoves moves = board.legalMoves(board.getTurn());
+    if (!moves.next()) {
+      return new Move(true);
+    }
+    return new Move(moves.getRow(), moves.getCol(), board.getHand().get(moves.getCardIdx()));
+  };
+
+  private QueensBoard startedBoard() {
+    DeckConfig deckConfig = new DeckConfig();
+    deckConfig.loadDeck(redPath, bluePath);
+    QueensBoard board = new Board(3, 5, false, deckConfig, redPath, bluePath);
+    board.startGame(deckConfig.getRedDeck(), deckConfig.getBlueDeck(), 5);
+    return board;
+  }
+
+  //Every submitted match is played until the game is over
+  @Test
+  public void testPlaysMatchesToTheEnd() throws Exception {
+    List<QueensBoard> boards = new ArrayList<>();
+    List<CompletableFuture<GameResult>> results = new ArrayList<>();
+    try (GameHost host = new GameHost(2, 60_000)) {
+      for (int i = 0; i < 8; i++) {
+        QueensBoard board = startedBoard();
+        boards.add(board);
+        results.add(host.submit(board,
+                new ComputerPlayer(firstMove, Board.Player.RED),
+                new ComputerPlayer(firstMove, Board.Player.BLUE)));
+      }
+      int moves = 0;
+      for (int i = 0; i < results.size(); i++) {
+        GameResult result = results.get(i).get();
+        QueensBoard board = boards.get(i);
+        assertFalse(result.isTimedOut());
+        assertTrue(board.isGameOver());
+        assertEquals(board.getWinner(), result.getWinner());
+        assertEquals(board.getScore(Board.Player.RED), result.getScore(Board.Player.RED));
+        assertEquals(board.getScore(Board.Player.BLUE), result.getScore(Board.Player.BLUE));
+        moves += result.getMoves();
+      }
+      assertEquals(8, host.getFinishedGames());
+      assertEquals(0, host.getTimedOutGames());
+      assertEquals(moves, host.getMoves());
+      assertTrue(host.getMoves() > 0);
+    }
+  }
+
+  //A match whose player throws fails, and is counted as a failed game
+  @Test
+  public void testCountsFailedMatches() throws Exception {
+    Strategy broken = board -> {
+      throw new IllegalStateException("broken strategy");
+    };
+    try (GameHost host = new GameHost(1, 60_000)) {
+      CompletableFuture<GameResult> result = host.submit(startedBoard(),
+              new ComputerPlayer(firstMove, Board.Player.RED),
+              new ComputerPlayer(broken, Board.Player.BLUE));
+      ExecutionException error = assertThrows(ExecutionException.class, result::get);
+      assertEquals("broken strategy", error.getCause().getMessage());
+      assertEquals(1, host.getFailedGames());
+      assertEquals(0, host.getFinishedGames());
+      assertEquals(0, host.getTimedOutGames());
+      assertEquals(1, host.getMoves());
+      assertTrue(host.getGamesPerSecond() > 0);
+    }
+  }
+
+  //Headless matches cannot wait on a person
+  @Test
+  public void testRejectsHumanPlayers() {
+    try (GameHost host = new GameHost(1, 1000)) {
+      assertThrows(IllegalArgumentException.class, () -> host.submit(startedBoard(),
+              new HumanPlayer(),
+              new ComputerPlayer(firstMove, Board.Player.BLUE)));
+      assertThrows(IllegalArgumentException.class, () -> host.submit(null,
+              new ComputerPlayer(firstMove, Board.Player.RED),
+              new ComputerPlayer(firstMove, Board.Player.BLUE)));
+    }
+  }
+
+  //Hosts need threads and a positive timeout
+  @Test
+  public void testInvalidHost() {
+    assertThrows(IllegalArgumentException.class, () -> new GameHost(0, 1000));
+    assertThrows(IllegalArgumentException.class, () -> new GameHost(1, 0));
+  }
+}
@@ -0,0 +1,113 @@
+package cs3500.queensboard;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import cs3500.queensboard.controller.DeckConfig;
+import cs3500.queensboard.metrics.GameMetrics;
+import cs3500.queensboard.metrics.LatencyHistogram;
+import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.ReadOnlyQueensBoard;
+import cs3500.queensboard.player.ComputerPlayer;
+import cs3500.queensboard.strategy.Move;
+import cs3500.queensboard.strategy.Strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A test class for the game metrics, ensuring histograms report percentiles within a bucket
+ * and that boards, players and deck loading record what they do.
+ */
+public class MetricsTest {
+  private final String deckPath = "docs" + File.separator + "deck.config";
+
+  //Percentiles land within 12.5% of the true value
+  @Test
+  public void testHistogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getPercentile(0.5));
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+    assertEquals(1000, histogram.getCount());
+    assertEquals(500.5, histogram.getMeanMicros(), 0.001);
+    assertEquals(1000.0, histogram.getMaxMicros(), 0.001);
+    assertTrue(Math.abs(histogram.getP50Micros() - 500) <= 500 * 0.125);
+    assertTrue(Math.abs(histogram.getP99Micros() - 990) <= 990 * 0.125);
+    assertEquals(1_000_000, histogram.getPercentile(1));
+    assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5));
+
+    histogram.record(3);
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+  }
+
+  //Small values each get their own bucket
+  @Test
+  public void testHistogramSmallValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 8; i++) {
+      histogram.record(i);
+    }
+    histogram.record(-5);
+    assertEquals(0, histogram.getPercentile(0.2));
+    assertEquals(3, histogram.getPercentile(0.5));
+    assertEquals(7, histogram.getPercentile(1));
+  }
+
+  //Moves on a board and strategy decisions are counted, copies of the board are not
+  @Test
+  public void testBoardAndPlayerRecord() {
+    GameMetrics metrics = GameMetrics.get();
+    DeckConfig deckConfig = new DeckConfig();
+    long decks = metrics.getDeckLoadLatency().getCount();
+    Board game = new Board(3, 5, false, deckConfig, deckPath, deckPath);
+    deckConfig.loadDeck(deckPath, deckPath);
+    assertTrue(metrics.getDeckLoadLatency().getCount() >= decks + 2);
+
+    long started = metrics.getGamesStarted();
+    long red = metrics.getRedPlacements();
+    long bluePasses = metrics.getBluePasses();
+    long placements = metrics.getPlacementLatency().getCount();
+    game.startGame(deckConfig.getRedDeck(), deckConfig.getBlueDeck(), 5);
+    game.placeCardInPosition(0, 1, 0); //r
+    game.pass(); //b
+    Board copy = game.copy();
+    copy.placeCardInPosition(0, 1, 1); //r, on the copy
+
+    assertEquals(started + 1, metrics.getGamesStarted());
+    assertEquals(red + 1, metrics.getRedPlacements());
+    assertEquals(bluePasses + 1, metrics.getBluePasses());
+    assertEquals(placements + 1, metrics.getPlacementLatency().getCount());
+
+    long decisions = metrics.getDecisionLatency("FixedStrategy").getCount();
+    new ComputerPlayer(new FixedStrategy(), Board.Player.BLUE).makeMove(game);
+    assertEquals(decisions + 1, metrics.getDecisionLatency("FixedStrategy").getCount());
+  }
+
+  //The metrics can be read through JMX
+  @Test
+  public void testExposedThroughJmx() throws Exception {
+    GameMetrics metrics = GameMetrics.get();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    assertEquals(metrics.getRedPasses(), server.getAttribute(
+            new ObjectName("cs3500.queensboard:type=GameMetrics"), "RedPasses"));
+    assertEquals(metrics.getPlacementLatency().getCount(), server.getAttribute(
+            new ObjectName("cs3500.queensboard:type=Latency,name=placement"), "Count"));
+  }
+
+  // Always passes, named so its histogram is easy to find
+  private static class FixedStrategy implements Strategy {
+    @Override
+    public Move chooseMove(ReadOnlyQueensBoard board) {
+      return new Move(true);
+    }
+  }
+}
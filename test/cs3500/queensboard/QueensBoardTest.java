@@ -1,14 +1,28 @@
 package cs3500.queensboard;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.Before;
 import org.junit.Test;
 
 import cs3500.queensboard.model.Board;
+import cs3500.queensboard.model.BoardSnapshot;
 import cs3500.queensboard.model.Card;
 import cs3500.queensboard.model.Cell;
+import cs3500.queensboard.model.LegalMoves;
+import cs3500.queensboard.model.ModelEvent;
+import cs3500.queensboard.model.ModelEventPublisher;
 import cs3500.queensboard.controller.DeckConfig;
 import cs3500.queensboard.model.QueensBoard;
 
@@ -643,6 +657,159 @@ public class QueensBoardTest {
   }
 
 
+  /// TESTS UNDO & COPY
+  @Test
+  public void testUndoThrowsWithNoMoves() {
+    game.startGame(player1Deck, player2Deck, 5);
+    assertThrows(IllegalStateException.class, () -> game.undo());
+  }
+
+  @Test
+  public void testUndoPlaceCard() {
+    game.startGame(player1Deck, player2Deck, 5);
+    Card first = game.getHand().get(0);
+    game.placeCardInPosition(0, 1, 0); //r
+    game.undo();
+
+    assertEquals(Board.Player.RED, game.getTurn());
+    assertNull(game.getCardAt(1, 0));
+    assertEquals(1, game.getCell(1, 0).getPawnCount());
+    assertTrue(game.getCell(0, 0).getPawnCount() == 1);
+    assertTrue(game.getCell(1, 1).isEmpty());
+    assertEquals(first, game.getHand().get(0));
+    assertEquals(0, game.getRedRowScore(1));
+    assertEquals(0, game.getScore(Board.Player.RED));
+  }
+
+  @Test
+  public void testUndoPassRestartsGame() {
+    game.startGame(player1Deck, player2Deck, 5);
+    game.pass(); // Red passes
+    game.pass(); // Blue passes
+    assertTrue(game.isGameOver());
+    game.undo();
+    assertFalse(game.isGameOver());
+    assertEquals(Board.Player.BLUE, game.getTurn());
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    game.startGame(player1Deck, player2Deck, 5);
+    game.placeCardInPosition(0, 1, 0); //r
+    QueensBoard copy = game.copy();
+    copy.placeCardInPosition(0, 1, 4); //b
+
+    assertNull(game.getCardAt(1, 4));
+    assertNotNull(copy.getCardAt(1, 4));
+    assertEquals(game.getRedRowScore(1), copy.getRedRowScore(1));
+    assertEquals(Board.Player.BLUE, game.getTurn());
+  }
+
+  @Test
+  public void testStateHashFollowsMovesAndUndo() {
+    game.startGame(player1Deck, player2Deck, 5);
+    long start = game.getStateHash();
+    QueensBoard copy = game.copy();
+    assertEquals(start, copy.getStateHash());
+
+    game.placeCardInPosition(0, 1, 0); //r
+    long placed = game.getStateHash();
+    assertNotEquals(start, placed);
+    game.pass(); //b
+    assertNotEquals(placed, game.getStateHash());
+
+    game.undo();
+    assertEquals(placed, game.getStateHash());
+    game.undo();
+    assertEquals(start, game.getStateHash());
+
+    copy.placeCardInPosition(0, 1, 0); //r
+    assertEquals(placed, copy.getStateHash());
+  }
+
+  @Test
+  public void testPositionHashFollowsDraws() {
+    game.startGame(player1Deck, player2Deck, 5);
+    Board board = (Board) game;
+    long start = board.getPositionHash();
+    assertEquals(start, board.copy().getPositionHash());
+
+    board.placeCardInPosition(0, 1, 0); //r, drawing a card
+    long placed = board.getPositionHash();
+    assertNotEquals(start, placed);
+    assertEquals(placed, board.getSnapshot().copy().getPositionHash());
+    board.undo();
+    assertEquals(start, board.getPositionHash());
+  }
+
+  @Test
+  public void testSnapshotDoesNotChangeWithBoard() {
+    game.startGame(player1Deck, player2Deck, 5);
+    BoardSnapshot before = game.getSnapshot();
+    game.placeCardInPosition(0, 1, 0); //r
+    BoardSnapshot after = game.getSnapshot();
+
+    assertNull(before.getCardAt(1, 0));
+    assertEquals(Board.Player.RED, before.getTurn());
+    assertEquals(5, before.getRedHand().size());
+    assertNotNull(after.getCardAt(1, 0));
+    assertEquals(Board.Player.BLUE, after.getTurn());
+    assertEquals(game.getRedRowScore(1), after.getRedRowScore(1));
+    assertEquals(game.getStateHash(), after.getStateHash());
+    assertThrows(UnsupportedOperationException.class, () -> after.getRedHand().clear());
+
+    game.getCell(0, 2).addPawn(game.getRedHand().get(0), 1);
+    assertEquals(Board.Player.NONE, after.getCell(0, 2).getOwner());
+    assertEquals(Board.Player.RED, game.getSnapshot().getCell(0, 2).getOwner());
+  }
+
+  @Test
+  public void testSnapshotCopyPlaysOn() {
+    game.startGame(player1Deck, player2Deck, 5);
+    game.placeCardInPosition(0, 1, 0); //r
+    Board copy = game.getSnapshot().copy();
+    assertEquals(game.getStateHash(), copy.getStateHash());
+
+    game.placeCardInPosition(0, 1, 4); //b
+    copy.placeCardInPosition(0, 1, 4); //b
+    assertEquals(game.getStateHash(), copy.getStateHash());
+    assertEquals(game.getRemainingDeckSize(Board.Player.BLUE),
+            copy.getRemainingDeckSize(Board.Player.BLUE));
+  }
+
+  @Test
+  public void testLegalMovesMatchPlaceableCells() {
+    assertFalse(game.hasLegalMove(Board.Player.RED));
+    assertFalse(game.legalMoves(Board.Player.RED).next());
+    game.startGame(player1Deck, player2Deck, 5);
+
+    int count = 0;
+    LegalMoves moves = game.legalMoves(Board.Player.RED);
+    while (moves.next()) {
+      Cell cell = game.getCell(moves.getRow(), moves.getCol());
+      Card card = game.getRedHand().get(moves.getCardIdx());
+      assertEquals(Board.Player.RED, cell.getOwner());
+      assertFalse(cell.hasCard());
+      assertTrue(cell.getPawnCount() >= card.getCost());
+      count++;
+    }
+    // 3 red cells with 1 pawn each, so only the cards costing 1 can be placed
+    int cheapCards = 0;
+    for (Card card : game.getRedHand()) {
+      if (card.getCost() == 1) {
+        cheapCards++;
+      }
+    }
+    assertEquals(3 * cheapCards, count);
+    assertEquals(cheapCards > 0, game.hasLegalMove(Board.Player.RED));
+    assertEquals(9, game.getEmptySpaces());
+
+    game.placeCardInPosition(0, 1, 0); //r
+    assertEquals(game.getSnapshot().getEmptySpaces(), game.getEmptySpaces());
+    assertEquals(game.hasLegalMove(Board.Player.BLUE),
+            game.getSnapshot().hasLegalMove(Board.Player.BLUE));
+  }
+
   // TESTS ISGAMEOVER & get scores for row, row based on color, and score for
   // each player, and gets the winner
   //TODO: test game over after board filled
@@ -703,4 +870,230 @@ public class QueensBoardTest {
     assertEquals(Board.Player.RED, game.getWinner());
     assertTrue(game.isGameOver());
   }
+
+  // Collects the events it receives, requesting them one at a time
+  private static class EventCollector implements Flow.Subscriber<ModelEvent> {
+    private final List<ModelEvent> received = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch;
+    private Flow.Subscription subscription;
+    private final boolean requestAll;
+
+    EventCollector(int expected, boolean requestAll) {
+      this.latch = new CountDownLatch(expected);
+      this.requestAll = requestAll;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (requestAll) {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onNext(ModelEvent item) {
+      received.add(item);
+      latch.countDown();
+      if (requestAll) {
+        subscription.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      // no errors expected
+    }
+
+    @Override
+    public void onComplete() {
+      // nothing to clean up
+    }
+  }
+
+  @Test
+  public void testEventsFollowMoves() throws InterruptedException {
+    EventCollector collector = new EventCollector(4, true);
+    game.getEvents().subscribe(collector);
+    game.startGame(player1Deck, player2Deck, 5);
+    game.placeCardInPosition(0, 1, 0); //r
+    game.pass(); //b
+    game.undo();
+    assertTrue(collector.latch.await(5, TimeUnit.SECONDS));
+
+    List<ModelEvent> events = collector.received;
+    assertEquals(ModelEvent.Kind.CARD_PLACED, events.get(0).getKind());
+    assertEquals(Board.Player.RED, events.get(0).getPlayer());
+    assertEquals(1, events.get(0).getRow());
+    assertEquals(0, events.get(0).getCol());
+    assertNotNull(events.get(0).getSnapshot().getCardAt(1, 0));
+    assertEquals(ModelEvent.Kind.INFLUENCE_APPLIED, events.get(1).getKind());
+    assertEquals(ModelEvent.Kind.PASSED, events.get(2).getKind());
+    assertEquals(Board.Player.BLUE, events.get(2).getPlayer());
+    assertEquals(Board.Player.RED, events.get(2).getSnapshot().getTurn());
+    assertEquals(ModelEvent.Kind.UNDONE, events.get(3).getKind());
+    assertEquals(Board.Player.BLUE, events.get(3).getSnapshot().getTurn());
+  }
+
+  @Test
+  public void testCoalescingKeepsNewestEvent() {
+    ModelEventPublisher publisher = new ModelEventPublisher(Runnable::run, 2);
+    EventCollector coalesced = new EventCollector(1, false);
+    EventCollector buffered = new EventCollector(2, false);
+    publisher.subscribe(coalesced, 2, true);
+    publisher.subscribe(buffered);
+    for (int i = 0; i < 3; i++) {
+      publisher.submit(new ModelEvent(ModelEvent.Kind.PASSED, Board.Player.RED, i, i, null,
+              null));
+    }
+    coalesced.subscription.request(5);
+    buffered.subscription.request(5);
+
+    assertEquals(1, coalesced.received.size());
+    assertEquals(2, coalesced.received.get(0).getRow());
+    assertEquals(2, buffered.received.size());
+    assertEquals(0, buffered.received.get(0).getRow());
+    assertEquals(1, publisher.getDroppedEvents());
+  }
+
+  @Test
+  public void testMovesAreRecordedForFlightRecorder() throws Exception {
+    game.startGame(player1Deck, player2Deck, 5);
+    Path dump = Files.createTempFile("moves", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("cs3500.queensboard.MovePlaced");
+      recording.start();
+      game.placeCardInPosition(0, 1, 0); //r
+      Board copy = game.copy(); // a search copy, whose moves are not recorded
+      copy.placeCardInPosition(0, 1, 4); //b
+      copy.pass(); //r
+      game.pass(); //b
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = new ArrayList<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+      if (event.getEventType().getName().equals("cs3500.queensboard.MovePlaced")) {
+        events.add(event);
+      }
+    }
+    Files.delete(dump);
+    assertEquals(2, events.size());
+    assertEquals("RED", events.get(0).getString("player"));
+    assertFalse(events.get(0).getBoolean("pass"));
+    assertEquals(1, events.get(0).getInt("row"));
+    assertTrue(events.get(0).getInt("cellsInfluenced") > 0);
+    assertEquals("BLUE", events.get(1).getString("player"));
+    assertTrue(events.get(1).getBoolean("pass"));
+  }
+
+  // Deals a game of the red and blue decks from the given seed, returning both hands
+  private List<Card> dealSeeded(long seed) {
+    String red = "docs" + File.separator + "RedDeck.config";
+    String blue = "docs" + File.separator + "BlueDeck.config";
+    DeckConfig config = new DeckConfig();
+    config.loadDeck(red, blue);
+    Board board = new Board(3, 5, true, config, red, blue, seed);
+    board.startGame(config.getRedDeck(), config.getBlueDeck(), 7);
+    List<Card> hands = new ArrayList<>(board.getRedHand());
+    hands.addAll(board.getBlueHand());
+    return hands;
+  }
+
+  //The same seed always deals the same hands, and the deal depends on the seed
+  @Test
+  public void testSeededShuffleIsReproducible() {
+    assertEquals(dealSeeded(42), dealSeeded(42));
+    assertNotEquals(dealSeeded(42), dealSeeded(43));
+    assertFalse(game.getShuffle());
+    Board shuffled = new Board(3, 5, true, deckConfig, redPath, bluePath, 7);
+    assertTrue(shuffled.getShuffle());
+    assertEquals(7, shuffled.getSeed());
+  }
+
+  //Snapshots of a shuffled game hold the shuffled decks, even when decks repeat cards
+  @Test
+  public void testSnapshotsKeepShuffledDecks() {
+    for (long seed : new long[] {104, 110}) {
+      DeckConfig config = new DeckConfig();
+      config.loadDeck(redPath, bluePath);
+      Board board = new Board(3, 5, true, config, redPath, bluePath, seed);
+      board.startGame(config.getRedDeck(), config.getBlueDeck(), 3);
+      Board fromBoard = board.copy();
+      Board fromSnapshot = board.getSnapshot().copy();
+      // Cards drawn after each placement come from the decks
+      for (int move = 0; move < 8 && !fromBoard.isGameOver(); move++) {
+        LegalMoves legal = fromBoard.legalMoves(fromBoard.getTurn());
+        if (legal.next()) {
+          fromBoard.placeCardInPosition(legal.getCardIdx(), legal.getRow(), legal.getCol());
+          fromSnapshot.placeCardInPosition(legal.getCardIdx(), legal.getRow(), legal.getCol());
+        } else {
+          fromBoard.pass();
+          fromSnapshot.pass();
+        }
+        assertEquals(fromBoard.getStateHash(), fromSnapshot.getStateHash());
+      }
+    }
+  }
+
+  //Unshuffled games deal the decks in file order
+  @Test
+  public void testUnshuffledDealKeepsFileOrder() {
+    List<Card> fileOrder = new ArrayList<>(game.getDeckConfig().getRedDeck());
+    game.startGame(player1Deck, player2Deck, 5);
+    assertEquals(fileOrder.subList(0, 5), game.getRedHand());
+  }
+
+  //Owned cells are counted as influence changes owners
+  @Test
+  public void testOwnedCellsFollowInfluence() {
+    Board board = (Board) game;
+    assertEquals(3, board.getOwnedCells(Board.Player.RED));
+    assertEquals(3, board.getOwnedCells(Board.Player.BLUE));
+    board.startGame(player1Deck, player2Deck, 5);
+    board.placeCardInPosition(0, 1, 0);
+    int owned = 0;
+    for (int row = 0; row < board.getHeight(); row++) {
+      for (int col = 0; col < board.getWidth(); col++) {
+        if (board.getCell(row, col).getOwner() == Board.Player.RED) {
+          owned++;
+        }
+      }
+    }
+    assertEquals(owned, board.getOwnedCells(Board.Player.RED));
+    board.undo();
+    assertEquals(3, board.getOwnedCells(Board.Player.RED));
+  }
+
+  //Flipping a card cell through its view moves the card's value to the other player's score
+  @Test
+  public void testChangingCardOwnershipMovesScore() {
+    game.startGame(player1Deck, player2Deck, 5);
+    int value = game.getRedHand().get(0).getValue();
+    game.placeCardInPosition(0, 1, 0); //r
+    assertEquals(value, game.getScore(Board.Player.RED));
+
+    game.getCell(1, 0).changeOwnership();
+    assertEquals(Board.Player.BLUE, game.getCell(1, 0).getOwner());
+    assertEquals(0, game.getRedRowScore(1));
+    assertEquals(value, game.getBlueRowScore(1));
+    assertEquals(0, game.getScore(Board.Player.RED));
+    assertEquals(value, game.getScore(Board.Player.BLUE));
+    assertEquals(value, game.getSnapshot().getScore(Board.Player.BLUE));
+    assertThrows(IllegalStateException.class, () -> game.undo());
+  }
+
+  //Adding more pawns than a cell can hold is rejected and leaves the cell as it was
+  @Test
+  public void testTooManyPawnsAreRejected() {
+    Card card = game.getDeckConfig().getRedDeck().get(0);
+    Cell cell = game.getCell(0, 2);
+    cell.addPawn(card, 2);
+    assertThrows(IllegalArgumentException.class, () -> cell.addPawn(card, 14));
+    assertThrows(IllegalArgumentException.class, () -> cell.addPawn(card, -3));
+    assertEquals(2, cell.getPawnCount());
+    assertFalse(cell.hasCard());
+    assertNull(game.getCardAt(0, 2));
+  }
 }
@@ -0,0 +1,113 @@
+package cs3500.queensboard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import cs3500.queensboard.transcript.Transcript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A test class for Transcript, ensuring recorded entries reach the file as the lines the
+ * strategies used to write, that full files are rotated into compressed copies, that entries
+ * which cannot be written are counted as dropped, and that a disabled transcript writes
+ * nothing.
+ */
+public class TranscriptTest {
+
+  //Entries recorded from several threads are all in the file after a flush
+  @Test
+  public void testRecordedEntriesAreWritten() throws Exception {
+    Path file = Files.createTempDirectory("transcript").resolve("moves.txt");
+    Transcript transcript = Transcript.open(file, 1 << 20, 2);
+    transcript.record(Transcript.Entry.CHECKED_POSITION, 1, 2, 3);
+    transcript.record(Transcript.Entry.ROW_SCORE, 0, 7, 5);
+    transcript.flush();
+    assertEquals(List.of("Checked Position - Row: 1, Col: 2, Card: 3",
+            "Row: 0, Current Player Score: 7, Opponent Score: 5"), Files.readAllLines(file));
+
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      int id = t;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 1000; i++) {
+          transcript.record(Transcript.Entry.CHECKED_POSITION, id, i, 1);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    transcript.flush();
+    assertEquals(2 + 4000 - transcript.getDropped(), Files.readAllLines(file).size());
+    assertEquals(transcript, Transcript.open(file, 1 << 20, 2));
+    assertThrows(IllegalArgumentException.class, () -> Transcript.open(file, 0, 2));
+  }
+
+  //A file passing its size limit is compressed and a new one started, keeping two copies
+  @Test
+  public void testFullFilesAreRotated() throws Exception {
+    Path dir = Files.createTempDirectory("transcript");
+    Path file = dir.resolve("rows.txt");
+    Transcript transcript = Transcript.open(file, 200, 2);
+    for (int i = 0; i < 40; i++) {
+      transcript.record(Transcript.Entry.ROW_SCORE, i, i, i);
+      transcript.flush(); // one entry per batch, so every rotation point is reached
+    }
+
+    assertTrue(Files.exists(dir.resolve("rows.txt.1.gz")));
+    assertTrue(Files.exists(dir.resolve("rows.txt.2.gz")));
+    assertFalse(Files.exists(dir.resolve("rows.txt.3.gz")));
+    List<String> newest = unzip(dir.resolve("rows.txt.1.gz"));
+    List<String> current = Files.exists(file) ? Files.readAllLines(file) : List.of();
+    assertEquals("Row: 39, Current Player Score: 39, Opponent Score: 39",
+            current.isEmpty() ? newest.get(newest.size() - 1) : current.get(current.size() - 1));
+    assertTrue(String.join("\n", newest).length() >= 150);
+  }
+
+  //Entries that cannot be written to the file are counted as dropped
+  @Test
+  public void testUnwritableEntriesAreDropped() throws Exception {
+    Path file = Files.createDirectory(Files.createTempDirectory("transcript").resolve("dir"));
+    Transcript transcript = Transcript.open(file, 1 << 20, 1);
+    transcript.record(Transcript.Entry.CHECKED_POSITION, 0, 0, 1);
+    transcript.record(Transcript.Entry.ROW_SCORE, 0, 1, 2);
+    transcript.flush();
+    assertEquals(2, transcript.getDropped());
+    assertTrue(Files.isDirectory(file));
+  }
+
+  //Nothing is recorded while transcripts are disabled
+  @Test
+  public void testDisabledTranscriptWritesNothing() throws Exception {
+    Path file = Files.createTempDirectory("transcript").resolve("off.txt");
+    Transcript transcript = Transcript.open(file, 1 << 20, 1);
+    Transcript.setEnabled(false);
+    try {
+      transcript.record(Transcript.Entry.CHECKED_POSITION, 0, 0, 1);
+      transcript.flush();
+      assertFalse(Transcript.isEnabled());
+    } finally {
+      Transcript.setEnabled(true);
+    }
+    assertFalse(Files.exists(file));
+    assertEquals(0, transcript.getDropped());
+  }
+
+  private static List<String> unzip(Path file) throws IOException {
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+    }
+  }
+}
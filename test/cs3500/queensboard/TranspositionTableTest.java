@@ -0,0 +1,99 @@
+package cs3500.queensboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import cs3500.queensboard.strategy.TranspositionTable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A test class for the TranspositionTable, ensuring entries are packed and found again, that
+ * deeper results are kept over shallower ones, and that threads sharing a table never read a
+ * mix of two entries.
+ */
+public class TranspositionTableTest {
+
+  //An entry comes back as it was stored, and other positions miss
+  @Test
+  public void testStoredEntriesAreFound() {
+    TranspositionTable table = new TranspositionTable(100);
+    assertEquals(128, table.size());
+    table.store(0x1234_5678_9ABC_DEF0L, 5, TranspositionTable.LOWER, -1_000_007, -1);
+    long entry = table.probe(0x1234_5678_9ABC_DEF0L);
+    assertEquals(5, TranspositionTable.depth(entry));
+    assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+    assertEquals(-1_000_007, TranspositionTable.score(entry));
+    assertEquals(-1, TranspositionTable.move(entry));
+
+    table.store(42L, 1, TranspositionTable.EXACT, 3, TranspositionTable.NO_MOVE);
+    assertEquals(TranspositionTable.NO_MOVE, TranspositionTable.move(table.probe(42L)));
+    assertEquals(0, table.probe(43L));
+    assertEquals(3, table.getProbes());
+    assertEquals(2, table.getHits());
+    assertEquals(2.0 / 3, table.getHitRate(), 1e-9);
+    assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+  }
+
+  //A full bucket makes room by dropping its shallowest entry
+  @Test
+  public void testShallowEntriesAreReplacedFirst() {
+    TranspositionTable table = new TranspositionTable(4); // a single bucket
+    for (int i = 0; i < 4; i++) {
+      table.store(i + 1, 10 + i, TranspositionTable.EXACT, i, i);
+    }
+    assertEquals(0, table.getCollisions());
+    assertEquals(1.0, table.getOccupancy(), 1e-9);
+
+    table.store(99, 20, TranspositionTable.EXACT, 99, 7);
+    assertEquals(1, table.getCollisions());
+    assertEquals(0, table.probe(1)); // depth 10 was the shallowest
+    assertEquals(7, TranspositionTable.move(table.probe(99)));
+    assertEquals(13, TranspositionTable.depth(table.probe(4)));
+
+    // Entries of earlier searches count as shallower
+    table.newSearch();
+    table.store(100, 1, TranspositionTable.UPPER, 0, 0);
+    assertEquals(0, table.probe(2));
+    table.clear();
+    assertEquals(0, table.probe(99));
+    assertEquals(0.0, table.getOccupancy(), 1e-9);
+  }
+
+  //Threads writing the same entries never read back a mix of two writes
+  @Test
+  public void testConcurrentWritersNeverTear() throws InterruptedException {
+    TranspositionTable table = new TranspositionTable(16);
+    AtomicInteger wrong = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int seed = t;
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          long key = (i * 31L + seed) % 64 + 1;
+          // Every field is derived from the key, so a mixed entry is noticed
+          table.store(key, (int) key, TranspositionTable.EXACT, (int) key * 3, (int) key);
+          long probed = (i * 17L + seed) % 64 + 1;
+          long entry = table.probe(probed);
+          if (entry != 0 && (TranspositionTable.score(entry) != probed * 3
+                  || TranspositionTable.move(entry) != probed
+                  || TranspositionTable.depth(entry) != probed)) {
+            wrong.incrementAndGet();
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(0, wrong.get());
+    assertTrue(table.getHits() > 0);
+  }
+}